@@ -0,0 +1,74 @@
+package io.capawesome.capacitorjs.plugins.mlkit.barcodescanning.benchmark;
+
+import android.graphics.Point;
+import android.graphics.Rect;
+import androidx.annotation.NonNull;
+import com.google.mlkit.vision.barcode.common.Barcode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Synthetic barcodes with the payload sizes that are typically detected in a camera frame.
+ */
+public final class BarcodeFixtures {
+
+    /**
+     * The size of the camera frames in which the barcodes are located.
+     */
+    public static final Point IMAGE_SIZE = new Point(1280, 720);
+
+    /**
+     * The size of a typical phone screen in portrait mode.
+     */
+    public static final Point SCREEN_SIZE = new Point(1080, 2340);
+
+    private BarcodeFixtures() {}
+
+    /**
+     * A retail product code with 13 digits.
+     */
+    @NonNull
+    public static Barcode createEan13() {
+        return createBarcode(Barcode.FORMAT_EAN_13, Barcode.TYPE_PRODUCT, "4006381333931", new Rect(420, 300, 860, 420));
+    }
+
+    /**
+     * A QR code with a URL of about 100 characters.
+     */
+    @NonNull
+    public static Barcode createQrCodeWithUrl() {
+        String url = "https://example.com/products/1234567890/details?utm_source=qr&utm_medium=label&utm_campaign=spring";
+        return createBarcode(Barcode.FORMAT_QR_CODE, Barcode.TYPE_TEXT, url, new Rect(500, 220, 780, 500));
+    }
+
+    /**
+     * A PDF417 code with a payload of about 500 bytes, as found on ID cards and boarding passes.
+     */
+    @NonNull
+    public static Barcode createPdf417() {
+        return createBarcode(Barcode.FORMAT_PDF417, Barcode.TYPE_TEXT, createPayload(500), new Rect(160, 260, 1120, 460));
+    }
+
+    /**
+     * Returns the barcodes of a camera frame with one barcode of each fixture.
+     */
+    @NonNull
+    public static List<Barcode> createFrame() {
+        return new ArrayList<>(Arrays.asList(createEan13(), createQrCodeWithUrl(), createPdf417()));
+    }
+
+    @NonNull
+    private static String createPayload(int length) {
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            builder.append((char) ('A' + (i % 26)));
+        }
+        return builder.toString();
+    }
+
+    @NonNull
+    private static Barcode createBarcode(int format, int valueType, @NonNull String rawValue, @NonNull Rect boundingBox) {
+        return FixtureBarcodeSource.createBarcode(format, valueType, rawValue, boundingBox);
+    }
+}
@@ -0,0 +1,111 @@
+package io.capawesome.capacitorjs.plugins.mlkit.barcodescanning.benchmark;
+
+import android.graphics.Point;
+import androidx.benchmark.BenchmarkState;
+import androidx.benchmark.junit4.BenchmarkRule;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import com.google.mlkit.vision.barcode.common.Barcode;
+import io.capawesome.capacitorjs.plugins.mlkit.barcodescanning.BarcodeScannerHelper;
+import io.capawesome.capacitorjs.plugins.mlkit.barcodescanning.CornerPointsTransform;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Measures the serialization of the barcodes that runs for every analyzed camera frame.
+ *
+ * Each iteration processes one frame with the barcodes of `BarcodeFixtures.createFrame()`,
+ * so the reported time and allocation count are per frame.
+ * Like during live scanning, the corner points transform is created once and reused for every frame.
+ */
+@RunWith(AndroidJUnit4.class)
+public class BarcodeScannerHelperBenchmark {
+
+    @Rule
+    public BenchmarkRule benchmarkRule = new BenchmarkRule();
+
+    private final List<Barcode> barcodes = BarcodeFixtures.createFrame();
+
+    private final CornerPointsTransform cornerPointsTransform = CornerPointsTransform.createForScreen(
+        BarcodeFixtures.IMAGE_SIZE,
+        BarcodeFixtures.SCREEN_SIZE
+    );
+
+    @Test
+    public void createBarcodeResultForBarcode() {
+        BenchmarkState state = benchmarkRule.getState();
+        while (state.keepRunning()) {
+            for (Barcode barcode : barcodes) {
+                BarcodeScannerHelper.createBarcodeResultForBarcode(barcode, cornerPointsTransform, null, null);
+            }
+        }
+    }
+
+    /**
+     * Same as `createBarcodeResultForBarcode()` with the `fields` option that is typically used for live scanning.
+     */
+    @Test
+    public void createBarcodeResultForBarcodeWithFields() {
+        Set<String> fields = new HashSet<>();
+        Collections.addAll(fields, "cornerPoints", "format", "rawValue");
+        BenchmarkState state = benchmarkRule.getState();
+        while (state.keepRunning()) {
+            for (Barcode barcode : barcodes) {
+                BarcodeScannerHelper.createBarcodeResultForBarcode(barcode, cornerPointsTransform, null, fields);
+            }
+        }
+    }
+
+    /**
+     * Measures the conversion of the raw bytes to a JSON array, which is the only included field.
+     */
+    @Test
+    public void convertByteArrayToJsonArray() {
+        Set<String> fields = Collections.singleton("bytes");
+        BenchmarkState state = benchmarkRule.getState();
+        while (state.keepRunning()) {
+            for (Barcode barcode : barcodes) {
+                BarcodeScannerHelper.createBarcodeResultForBarcode(barcode, null, null, fields);
+            }
+        }
+    }
+
+    /**
+     * Measures the normalization of the corner points from image to screen coordinates
+     * if the transform is created for every barcode.
+     */
+    @Test
+    public void normalizeCornerPoints() {
+        Point[][] cornerPoints = new Point[barcodes.size()][];
+        for (int i = 0; i < barcodes.size(); i++) {
+            cornerPoints[i] = barcodes.get(i).getCornerPoints();
+        }
+        BenchmarkState state = benchmarkRule.getState();
+        while (state.keepRunning()) {
+            for (Point[] points : cornerPoints) {
+                BarcodeScannerHelper.createCornerPointsResult(points, BarcodeFixtures.IMAGE_SIZE, BarcodeFixtures.SCREEN_SIZE);
+            }
+        }
+    }
+
+    /**
+     * Same as `normalizeCornerPoints()` with a transform that is created once per scan session, as during live scanning.
+     */
+    @Test
+    public void transformCornerPoints() {
+        Point[][] cornerPoints = new Point[barcodes.size()][];
+        for (int i = 0; i < barcodes.size(); i++) {
+            cornerPoints[i] = barcodes.get(i).getCornerPoints();
+        }
+        BenchmarkState state = benchmarkRule.getState();
+        while (state.keepRunning()) {
+            for (Point[] points : cornerPoints) {
+                cornerPointsTransform.createCornerPointsResult(points, null);
+            }
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package io.capawesome.capacitorjs.plugins.mlkit.barcodescanning.benchmark;
+
+import androidx.benchmark.BenchmarkState;
+import androidx.benchmark.junit4.BenchmarkRule;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import com.google.mlkit.vision.barcode.common.Barcode;
+import io.capawesome.capacitorjs.plugins.mlkit.barcodescanning.BarcodeVoteTracker;
+import java.util.List;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Measures the vote logic that runs for every analyzed camera frame.
+ *
+ * Each iteration votes for the barcodes of one frame of `BarcodeFixtures.createFrame()`,
+ * so the reported time and allocation count are per frame.
+ */
+@RunWith(AndroidJUnit4.class)
+public class BarcodeVoteTrackerBenchmark {
+
+    /**
+     * The time in milliseconds between two frames at 30 frames per second.
+     */
+    private static final long FRAME_INTERVAL = 33;
+
+    @Rule
+    public BenchmarkRule benchmarkRule = new BenchmarkRule();
+
+    private final List<Barcode> barcodes = BarcodeFixtures.createFrame();
+
+    /**
+     * The barcodes stay in the frame, so they are reported after the threshold has been reached.
+     */
+    @Test
+    public void vote() {
+        BarcodeVoteTracker barcodeVoteTracker = new BarcodeVoteTracker(
+            BarcodeVoteTracker.DEFAULT_CAPACITY,
+            BarcodeVoteTracker.DEFAULT_THRESHOLD,
+            BarcodeVoteTracker.DEFAULT_TIMEOUT
+        );
+        long timestamp = 0;
+        BenchmarkState state = benchmarkRule.getState();
+        while (state.keepRunning()) {
+            timestamp += FRAME_INTERVAL;
+            barcodeVoteTracker.vote(barcodes, timestamp);
+        }
+    }
+
+    /**
+     * The votes expire between two frames, so the barcodes never reach the threshold.
+     */
+    @Test
+    public void voteWithExpiredVotes() {
+        BarcodeVoteTracker barcodeVoteTracker = new BarcodeVoteTracker(
+            BarcodeVoteTracker.DEFAULT_CAPACITY,
+            BarcodeVoteTracker.DEFAULT_THRESHOLD,
+            BarcodeVoteTracker.DEFAULT_TIMEOUT
+        );
+        long timestamp = 0;
+        BenchmarkState state = benchmarkRule.getState();
+        while (state.keepRunning()) {
+            timestamp += BarcodeVoteTracker.DEFAULT_TIMEOUT + 1;
+            barcodeVoteTracker.vote(barcodes, timestamp);
+        }
+    }
+}
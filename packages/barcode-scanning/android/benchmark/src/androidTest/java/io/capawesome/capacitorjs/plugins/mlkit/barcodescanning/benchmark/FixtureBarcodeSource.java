@@ -0,0 +1,149 @@
+package io.capawesome.capacitorjs.plugins.mlkit.barcodescanning.benchmark;
+
+import android.graphics.Point;
+import android.graphics.Rect;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import com.google.mlkit.vision.barcode.common.Barcode;
+import com.google.mlkit.vision.barcode.common.internal.BarcodeSource;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The only place that depends on the internal `BarcodeSource` API of ML Kit,
+ * which is needed to create `Barcode` objects without running a detection.
+ *
+ * The API is not public and may change with any ML Kit update. If it does, only this class
+ * and therefore only the benchmark module has to be adapted, the plugin is not affected.
+ *
+ * Returns the same arrays on every call so that the fixture itself does not allocate during a benchmark.
+ */
+class FixtureBarcodeSource implements BarcodeSource {
+
+    private final int format;
+    private final int valueType;
+
+    @NonNull
+    private final String rawValue;
+
+    @NonNull
+    private final byte[] rawBytes;
+
+    @NonNull
+    private final Rect boundingBox;
+
+    @NonNull
+    private final Point[] cornerPoints;
+
+    private FixtureBarcodeSource(int format, int valueType, @NonNull String rawValue, @NonNull Rect boundingBox) {
+        this.format = format;
+        this.valueType = valueType;
+        this.rawValue = rawValue;
+        this.rawBytes = rawValue.getBytes(StandardCharsets.UTF_8);
+        this.boundingBox = boundingBox;
+        this.cornerPoints = new Point[] {
+            new Point(boundingBox.left, boundingBox.top),
+            new Point(boundingBox.right, boundingBox.top),
+            new Point(boundingBox.right, boundingBox.bottom),
+            new Point(boundingBox.left, boundingBox.bottom)
+        };
+    }
+
+    @NonNull
+    static Barcode createBarcode(int format, int valueType, @NonNull String rawValue, @NonNull Rect boundingBox) {
+        return new Barcode(new FixtureBarcodeSource(format, valueType, rawValue, boundingBox));
+    }
+
+    @Override
+    public int getFormat() {
+        return format;
+    }
+
+    @Override
+    public int getValueType() {
+        return valueType;
+    }
+
+    @Override
+    @Nullable
+    public Rect getBoundingBox() {
+        return boundingBox;
+    }
+
+    @Override
+    @Nullable
+    public Point[] getCornerPoints() {
+        return cornerPoints;
+    }
+
+    @Override
+    @Nullable
+    public String getRawValue() {
+        return rawValue;
+    }
+
+    @Override
+    @Nullable
+    public byte[] getRawBytes() {
+        return rawBytes;
+    }
+
+    @Override
+    @Nullable
+    public String getDisplayValue() {
+        return rawValue;
+    }
+
+    @Override
+    @Nullable
+    public Barcode.CalendarEvent getCalendarEvent() {
+        return null;
+    }
+
+    @Override
+    @Nullable
+    public Barcode.ContactInfo getContactInfo() {
+        return null;
+    }
+
+    @Override
+    @Nullable
+    public Barcode.DriverLicense getDriverLicense() {
+        return null;
+    }
+
+    @Override
+    @Nullable
+    public Barcode.Email getEmail() {
+        return null;
+    }
+
+    @Override
+    @Nullable
+    public Barcode.GeoPoint getGeoPoint() {
+        return null;
+    }
+
+    @Override
+    @Nullable
+    public Barcode.Phone getPhone() {
+        return null;
+    }
+
+    @Override
+    @Nullable
+    public Barcode.Sms getSms() {
+        return null;
+    }
+
+    @Override
+    @Nullable
+    public Barcode.UrlBookmark getUrl() {
+        return null;
+    }
+
+    @Override
+    @Nullable
+    public Barcode.WiFi getWifi() {
+        return null;
+    }
+}
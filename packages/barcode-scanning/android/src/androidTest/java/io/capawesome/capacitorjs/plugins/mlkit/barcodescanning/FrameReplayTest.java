@@ -0,0 +1,114 @@
+package io.capawesome.capacitorjs.plugins.mlkit.barcodescanning;
+
+import static org.junit.Assert.*;
+
+import android.content.Context;
+import android.graphics.Point;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import androidx.test.platform.app.InstrumentationRegistry;
+import com.getcapacitor.JSObject;
+import com.google.mlkit.vision.barcode.common.Barcode;
+import io.capawesome.capacitorjs.plugins.mlkit.barcodescanning.classes.results.GetScanMetricsResult;
+import io.capawesome.capacitorjs.plugins.mlkit.barcodescanning.interfaces.NonEmptyResultCallback;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPInputStream;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Replays a checked-in recording through the analysis pipeline with the real ML Kit detector.
+ *
+ * The recording `replay-ean13.bin.gz` contains five 320x240 frames with the EAN-13 barcode `4006381333931`,
+ * 100 ms apart.
+ */
+@RunWith(AndroidJUnit4.class)
+public class FrameReplayTest {
+
+    private static final String RECORDING_ASSET = "replay-ean13.bin.gz";
+    private static final String RAW_VALUE = "4006381333931";
+    private static final int FRAME_COUNT = 5;
+    private static final int VOTE_THRESHOLD = 3;
+
+    @Test
+    public void replayFrames() throws Exception {
+        RecordingPlugin plugin = new RecordingPlugin();
+        BarcodeScanner barcodeScanner = new BarcodeScanner(plugin);
+        Context context = InstrumentationRegistry.getInstrumentation().getContext();
+        FrameReplaySource source = new FrameReplaySource(new GZIPInputStream(context.getAssets().open(RECORDING_ASSET)));
+        ScanSettings scanSettings = new ScanSettings();
+        scanSettings.formats = new int[] { Barcode.FORMAT_EAN_13 };
+        scanSettings.voteThreshold = VOTE_THRESHOLD;
+
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicReference<GetScanMetricsResult> resultReference = new AtomicReference<>();
+        AtomicReference<Exception> errorReference = new AtomicReference<>();
+        InstrumentationRegistry.getInstrumentation().runOnMainSync(() ->
+            barcodeScanner.replayFrames(
+                source,
+                scanSettings,
+                new NonEmptyResultCallback<GetScanMetricsResult>() {
+                    @Override
+                    public void success(@NonNull GetScanMetricsResult result) {
+                        resultReference.set(result);
+                        latch.countDown();
+                    }
+
+                    @Override
+                    public void error(Exception exception) {
+                        errorReference.set(exception);
+                        latch.countDown();
+                    }
+                }
+            )
+        );
+        assertTrue(latch.await(30, TimeUnit.SECONDS));
+        assertNull(errorReference.get());
+
+        JSObject metrics = resultReference.get().toJSObject();
+        assertEquals(FRAME_COUNT, metrics.getLong("framesReceived"));
+        assertEquals(FRAME_COUNT, metrics.getLong("framesAnalyzed"));
+        assertEquals(0, metrics.getLong("framesSkipped"));
+        assertEquals(0, metrics.getLong("framesFailed"));
+        // The barcode is reported from the frame in which it reaches the vote threshold on
+        assertEquals(FRAME_COUNT - VOTE_THRESHOLD + 1, metrics.getLong("barcodesReported"));
+        assertEquals(VOTE_THRESHOLD - 1, metrics.getLong("barcodesRejected"));
+
+        assertEquals(FRAME_COUNT - VOTE_THRESHOLD + 1, plugin.rawValues.size());
+        for (String rawValue : plugin.rawValues) {
+            assertEquals(RAW_VALUE, rawValue);
+        }
+    }
+
+    /**
+     * Collects the reported barcodes instead of notifying the WebView.
+     */
+    private static class RecordingPlugin extends BarcodeScannerPlugin {
+
+        private final List<String> rawValues = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public void notifyBarcodesScannedListeners(
+            Barcode[] barcodes,
+            @Nullable CornerPointsTransform cornerPointsTransform,
+            @Nullable Point cornerPointsOffset,
+            @Nullable Set<String> fields
+        ) {
+            for (Barcode barcode : barcodes) {
+                rawValues.add(barcode.getRawValue());
+            }
+        }
+
+        @Override
+        public Point getScreenSize() {
+            return new Point(1080, 1920);
+        }
+    }
+}
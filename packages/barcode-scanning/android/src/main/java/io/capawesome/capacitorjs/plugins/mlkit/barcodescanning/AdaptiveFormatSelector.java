@@ -0,0 +1,99 @@
+package io.capawesome.capacitorjs.plugins.mlkit.barcodescanning;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import com.google.mlkit.vision.barcode.common.Barcode;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Narrows the barcode formats of a scan session to the formats that were actually seen.
+ *
+ * Scanning for fewer formats is faster. The session starts with the configured formats
+ * and is narrowed after a number of frames in which only already seen formats were detected.
+ * The formats are widened again if no barcode was detected for a number of consecutive frames,
+ * e.g. because a label with a different format is in front of the camera. The seen formats are
+ * then forgotten, so the next narrowing only contains the formats that were seen since.
+ */
+public class AdaptiveFormatSelector {
+
+    public static final int DEFAULT_NARROW_THRESHOLD = 3;
+    public static final int DEFAULT_WIDEN_THRESHOLD = 30;
+
+    @NonNull
+    private final int[] initialFormats;
+
+    private final int narrowThreshold;
+    private final int widenThreshold;
+
+    @NonNull
+    private final Set<Integer> seenFormats = new LinkedHashSet<>();
+
+    private int consistentReadCount = 0;
+    private int missCount = 0;
+    private boolean isNarrowed = false;
+
+    /**
+     * @param initialFormats The configured barcode formats. An empty array means all formats.
+     * @param narrowThreshold The number of frames with only already seen formats before the formats are narrowed.
+     * @param widenThreshold The number of consecutive frames without barcodes before the formats are widened again.
+     */
+    public AdaptiveFormatSelector(@NonNull int[] initialFormats, int narrowThreshold, int widenThreshold) {
+        this.initialFormats = initialFormats;
+        this.narrowThreshold = narrowThreshold;
+        this.widenThreshold = widenThreshold;
+    }
+
+    /**
+     * Must be called with the detected barcodes of every analyzed frame.
+     *
+     * @return The new barcode formats or `null` if the formats did not change.
+     */
+    @Nullable
+    public synchronized int[] update(@NonNull List<Barcode> barcodes) {
+        if (initialFormats.length == 1) {
+            // There is nothing to narrow
+            return null;
+        }
+        if (isNarrowed) {
+            missCount = barcodes.isEmpty() ? missCount + 1 : 0;
+            if (missCount < widenThreshold) {
+                return null;
+            }
+            isNarrowed = false;
+            missCount = 0;
+            consistentReadCount = 0;
+            seenFormats.clear();
+            return initialFormats;
+        }
+        boolean hasKnownFormat = false;
+        boolean isConsistent = true;
+        for (Barcode barcode : barcodes) {
+            int format = barcode.getFormat();
+            if (format == Barcode.FORMAT_UNKNOWN) {
+                // Must not be passed to the barcode scanner options
+                continue;
+            }
+            hasKnownFormat = true;
+            if (seenFormats.add(format)) {
+                isConsistent = false;
+            }
+        }
+        if (!hasKnownFormat) {
+            return null;
+        }
+        consistentReadCount = isConsistent ? consistentReadCount + 1 : 0;
+        if (consistentReadCount < narrowThreshold) {
+            return null;
+        }
+        isNarrowed = true;
+        missCount = 0;
+        int[] narrowedFormats = new int[seenFormats.size()];
+        int index = 0;
+        for (int format : seenFormats) {
+            narrowedFormats[index++] = format;
+        }
+        return narrowedFormats;
+    }
+}
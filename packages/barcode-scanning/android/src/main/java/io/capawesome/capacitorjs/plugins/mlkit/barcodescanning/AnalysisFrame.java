@@ -0,0 +1,47 @@
+package io.capawesome.capacitorjs.plugins.mlkit.barcodescanning;
+
+import android.media.Image;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import java.nio.ByteBuffer;
+
+/**
+ * A frame that is analyzed by the scan session, either from the camera or from a recording.
+ */
+public interface AnalysisFrame {
+    /**
+     * The width of the unrotated frame in pixels.
+     */
+    int getWidth();
+
+    /**
+     * The height of the unrotated frame in pixels.
+     */
+    int getHeight();
+
+    int getRotationDegrees();
+
+    /**
+     * The time of the frame in milliseconds.
+     */
+    long getTimestamp();
+
+    /**
+     * The Y plane of the frame.
+     */
+    @NonNull
+    ByteBuffer getLuminanceBuffer();
+
+    int getLuminanceRowStride();
+
+    /**
+     * The frame as media image or `null` if only the luminance is available.
+     */
+    @Nullable
+    Image getMediaImage();
+
+    /**
+     * Called once the frame has been processed.
+     */
+    void close();
+}
@@ -8,61 +8,125 @@ import android.content.Context;
 import android.content.Intent;
 import android.content.pm.PackageManager;
 import android.graphics.Color;
+import android.graphics.Matrix;
 import android.graphics.Point;
+import android.graphics.Rect;
+import android.hardware.camera2.CaptureRequest;
 import android.media.Image;
 import android.net.Uri;
+import android.os.Build;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.PowerManager;
+import android.os.SystemClock;
 import android.provider.Settings;
+import android.util.Range;
+import android.util.Rational;
+import android.util.Size;
 import android.view.Display;
+import android.view.Surface;
+import android.view.View;
 import android.view.ViewGroup;
 import android.view.WindowManager;
 import android.widget.FrameLayout;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import androidx.camera.camera2.interop.Camera2Interop;
 import androidx.camera.core.Camera;
 import androidx.camera.core.CameraControl;
 import androidx.camera.core.CameraSelector;
+import androidx.camera.core.ExposureState;
+import androidx.camera.core.ExtendableBuilder;
 import androidx.camera.core.ImageAnalysis;
 import androidx.camera.core.ImageProxy;
 import androidx.camera.core.Preview;
+import androidx.camera.core.UseCaseGroup;
+import androidx.camera.core.ViewPort;
 import androidx.camera.core.resolutionselector.ResolutionSelector;
 import androidx.camera.core.resolutionselector.ResolutionStrategy;
 import androidx.camera.lifecycle.ProcessCameraProvider;
 import androidx.camera.view.PreviewView;
+import androidx.camera.view.transform.CoordinateTransform;
+import androidx.camera.view.transform.ImageProxyTransformFactory;
+import androidx.camera.view.transform.OutputTransform;
 import androidx.core.content.ContextCompat;
 import androidx.lifecycle.LifecycleOwner;
+import androidx.lifecycle.Observer;
 import com.getcapacitor.PermissionState;
 import com.getcapacitor.PluginCall;
-import com.google.android.gms.common.moduleinstall.InstallStatusListener;
 import com.google.android.gms.common.moduleinstall.ModuleInstall;
 import com.google.android.gms.common.moduleinstall.ModuleInstallClient;
 import com.google.android.gms.common.moduleinstall.ModuleInstallRequest;
 import com.google.android.gms.common.moduleinstall.ModuleInstallStatusUpdate;
+import com.google.android.gms.tasks.Tasks;
 import com.google.common.util.concurrent.ListenableFuture;
-import com.google.mlkit.vision.barcode.BarcodeScannerOptions;
-import com.google.mlkit.vision.barcode.BarcodeScanning;
 import com.google.mlkit.vision.barcode.common.Barcode;
 import com.google.mlkit.vision.codescanner.GmsBarcodeScanner;
 import com.google.mlkit.vision.codescanner.GmsBarcodeScannerOptions;
 import com.google.mlkit.vision.codescanner.GmsBarcodeScanning;
 import com.google.mlkit.vision.common.InputImage;
+import io.capawesome.capacitorjs.plugins.mlkit.barcodescanning.classes.events.ImageBarcodesReadEvent;
+import io.capawesome.capacitorjs.plugins.mlkit.barcodescanning.classes.options.PrepareScanOptions;
+import io.capawesome.capacitorjs.plugins.mlkit.barcodescanning.classes.options.ReadBarcodesFromImagesOptions;
+import io.capawesome.capacitorjs.plugins.mlkit.barcodescanning.classes.options.ReadBarcodesFromPdfOptions;
+import io.capawesome.capacitorjs.plugins.mlkit.barcodescanning.classes.options.ReadBarcodesFromVideoOptions;
 import io.capawesome.capacitorjs.plugins.mlkit.barcodescanning.classes.options.SetZoomRatioOptions;
 import io.capawesome.capacitorjs.plugins.mlkit.barcodescanning.classes.results.GetMaxZoomRatioResult;
 import io.capawesome.capacitorjs.plugins.mlkit.barcodescanning.classes.results.GetMinZoomRatioResult;
+import io.capawesome.capacitorjs.plugins.mlkit.barcodescanning.classes.results.GetScanMetricsResult;
 import io.capawesome.capacitorjs.plugins.mlkit.barcodescanning.classes.results.GetZoomRatioResult;
-import java.util.ArrayList;
+import io.capawesome.capacitorjs.plugins.mlkit.barcodescanning.classes.results.ReadBarcodesFromImageResult;
+import io.capawesome.capacitorjs.plugins.mlkit.barcodescanning.classes.results.ReadBarcodesFromImagesResult;
+import io.capawesome.capacitorjs.plugins.mlkit.barcodescanning.classes.results.ReadBarcodesFromPdfResult;
+import io.capawesome.capacitorjs.plugins.mlkit.barcodescanning.classes.results.ReadBarcodesFromVideoResult;
+import io.capawesome.capacitorjs.plugins.mlkit.barcodescanning.interfaces.EmptyResultCallback;
+import io.capawesome.capacitorjs.plugins.mlkit.barcodescanning.interfaces.NonEmptyResultCallback;
+import io.capawesome.capacitorjs.plugins.mlkit.barcodescanning.interfaces.Result;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class BarcodeScanner implements ImageAnalysis.Analyzer {
 
+    /**
+     * The maximum number of images that are loaded and processed in parallel by `readBarcodesFromImages(...)`.
+     */
+    private static final int MAX_READ_IMAGES_THREAD_COUNT = 4;
+    private static final int FRAME_BUFFER_POOL_CAPACITY = 2;
+    private static final int WARM_UP_IMAGE_WIDTH = 640;
+    private static final int WARM_UP_IMAGE_HEIGHT = 480;
+
+    /**
+     * The maximum time in milliseconds to wait for the barcodes of the last replayed frame.
+     */
+    private static final long REPLAY_DELIVERY_TIMEOUT = 5000;
+
     @Nullable
     private static Camera camera;
 
     @NonNull
     private final BarcodeScannerPlugin plugin;
 
+    @NonNull
+    private final BarcodeScannerClientCache barcodeScannerClientCache = new BarcodeScannerClientCache(
+        BarcodeScannerClientCache.DEFAULT_CAPACITY
+    );
+
     @Nullable
-    private com.google.mlkit.vision.barcode.BarcodeScanner barcodeScannerInstance;
+    private volatile com.google.mlkit.vision.barcode.BarcodeScanner barcodeScannerInstance;
 
     @Nullable
     private ProcessCameraProvider processCameraProvider;
@@ -71,17 +135,168 @@ public class BarcodeScanner implements ImageAnalysis.Analyzer {
     private PreviewView previewView;
 
     @Nullable
-    private ScanSettings scanSettings;
+    private volatile ScanSettings scanSettings;
+
+    @Nullable
+    private ListenableFuture<ProcessCameraProvider> cameraProviderFuture;
+
+    /**
+     * Preview view created by `prepareScan(...)` that is used by the next `startScan(...)` call.
+     */
+    @Nullable
+    private PreviewView preparedPreviewView;
+
+    @Nullable
+    private ImageAnalysis imageAnalysis;
+
+    private volatile boolean isScanPaused = false;
+
+    /**
+     * Whether or not `replayFrames(...)` is running. A scan session must not be started in the meantime,
+     * since the replayed frames would be analyzed as part of it.
+     */
+    private boolean isReplayingFrames = false;
+
+    /**
+     * Executor used to analyze the camera frames and to handle the scan results off the main thread.
+     */
+    @Nullable
+    private ThreadPoolExecutor analysisExecutor;
 
     @Nullable
     private ModuleInstallProgressListener moduleInstallProgressListener;
 
-    private HashMap<String, Integer> barcodeRawValueVotes = new HashMap<String, Integer>();
+    /**
+     * Whether or not the Google Barcode Scanner Module is known to be available.
+     * Only a positive result is cached, since the module may be installed in the background at any time.
+     * The cache is invalidated by the install progress updates.
+     */
+    private volatile boolean isGoogleBarcodeScannerModuleAvailable = false;
+
+    /**
+     * The Google code scanner clients by their options.
+     */
+    @NonNull
+    private final Map<String, GmsBarcodeScanner> gmsBarcodeScanners = new HashMap<>();
+
+    @Nullable
+    private volatile BarcodeVoteTracker barcodeVoteTracker;
+
+    @Nullable
+    private volatile AdaptiveFormatSelector adaptiveFormatSelector;
+
+    @Nullable
+    private volatile FrameRateLimiter frameRateLimiter;
+
+    /**
+     * Only set if barcode tracking is enabled.
+     */
+    @Nullable
+    private volatile BarcodeTracker barcodeTracker;
+
+    /**
+     * The metrics of the current or last scan session.
+     */
+    @Nullable
+    private volatile ScanMetrics scanMetrics;
+
+    @NonNull
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+
+    @Nullable
+    private Runnable scanMetricsRunnable;
+
+    @Nullable
+    private volatile ScanEventQueue scanEventQueue;
+
+    /**
+     * Records the camera frames of the scan session or `null` if recording is disabled.
+     */
+    @Nullable
+    private volatile FrameRecorder frameRecorder;
+
+    /**
+     * Only set if the automatic torch or exposure compensation is enabled.
+     */
+    @Nullable
+    private volatile LowLightController lowLightController;
+
+    @Nullable
+    private PowerManager.OnThermalStatusChangedListener thermalStatusChangedListener;
+
+    /**
+     * Recycled NV21 buffers for the cropped and grayscale camera frames.
+     * A buffer is returned to the pool once ML Kit has finished processing the frame.
+     */
+    @NonNull
+    private final ByteBufferPool frameBufferPool = new ByteBufferPool(FRAME_BUFFER_POOL_CAPACITY);
+
+    /**
+     * The size of the last analyzed camera frame which is reused as long as the size does not change.
+     */
+    @Nullable
+    private volatile Point lastImageSize;
+
+    @NonNull
+    private final ImageProxyTransformFactory imageProxyTransformFactory = new ImageProxyTransformFactory();
+
+    /**
+     * The transform of the last analyzed camera frame, which only changes if the rotation or the crop rect changes.
+     */
+    @Nullable
+    private volatile OutputTransform analysisOutputTransform;
+
+    @Nullable
+    private Rect analysisCropRect;
+
+    private int analysisRotationDegrees = -1;
+
+    /**
+     * The transform of the corner points from the camera frames to the WebView
+     * or `null` if the preview is not streaming yet.
+     */
+    @Nullable
+    private volatile CornerPointsTransform previewCornerPointsTransform;
+
+    /**
+     * The fallback transform of the corner points that assumes that the preview fills the screen.
+     */
+    @Nullable
+    private CornerPointsTransform screenCornerPointsTransform;
+
+    @Nullable
+    private Point screenCornerPointsTransformImageSize;
+
+    @Nullable
+    private Point screenCornerPointsTransformScreenSize;
+
+    @NonNull
+    private final View.OnLayoutChangeListener previewLayoutChangeListener = (
+        view,
+        left,
+        top,
+        right,
+        bottom,
+        oldLeft,
+        oldTop,
+        oldRight,
+        oldBottom
+    ) -> updatePreviewCornerPointsTransform();
+
+    @NonNull
+    private final Observer<PreviewView.StreamState> previewStreamStateObserver = streamState -> {
+        if (streamState == PreviewView.StreamState.STREAMING) {
+            updatePreviewCornerPointsTransform();
+        }
+    };
 
     private boolean isTorchEnabled = false;
 
+    @SuppressLint("UnsafeOptInUsageError")
     public BarcodeScanner(BarcodeScannerPlugin plugin) {
         this.plugin = plugin;
+        // ML Kit returns the corner points in the coordinates of the upright frame
+        this.imageProxyTransformFactory.setUsingRotationDegrees(true);
     }
 
     /**
@@ -99,63 +314,338 @@ public class BarcodeScanner implements ImageAnalysis.Analyzer {
      * Must run on UI thread.
      */
     public void startScan(ScanSettings scanSettings, StartScanResultCallback callback) {
+        if (isReplayingFrames) {
+            callback.error(new Exception(BarcodeScannerPlugin.ERROR_FRAME_REPLAY_ACTIVE));
+            return;
+        }
         // Stop the camera if running
         stopScan();
 
         // Hide WebView background
         hideWebViewBackground();
 
-        this.scanSettings = scanSettings;
-
-        BarcodeScannerOptions options = buildBarcodeScannerOptions(scanSettings);
-        barcodeScannerInstance = BarcodeScanning.getClient(options);
-
-        ResolutionSelector resolutionSelector = new ResolutionSelector.Builder()
-            .setResolutionStrategy(new ResolutionStrategy(scanSettings.resolution, ResolutionStrategy.FALLBACK_RULE_CLOSEST_LOWER))
-            .build();
+        try {
+            startAnalysisSession(scanSettings);
+        } catch (Exception exception) {
+            stopScan();
+            callback.error(exception);
+            return;
+        }
 
-        ImageAnalysis imageAnalysis = new ImageAnalysis.Builder()
+        ImageAnalysis.Builder imageAnalysisBuilder = new ImageAnalysis.Builder()
             .setBackpressureStrategy(ImageAnalysis.STRATEGY_KEEP_ONLY_LATEST)
-            .setResolutionSelector(resolutionSelector)
-            .build();
+            .setResolutionSelector(createResolutionSelector(scanSettings.resolution));
+        if (scanSettings.targetFrameRateRange != null) {
+            setTargetFrameRateRange(imageAnalysisBuilder, scanSettings.targetFrameRateRange);
+        }
+        ImageAnalysis imageAnalysis = imageAnalysisBuilder.build();
+        this.imageAnalysis = imageAnalysis;
 
-        imageAnalysis.setAnalyzer(ContextCompat.getMainExecutor(plugin.getContext()), this);
+        imageAnalysis.setAnalyzer(getAnalysisExecutor(scanSettings.analysisThreadCount), this);
 
-        ListenableFuture<ProcessCameraProvider> cameraProviderFuture = ProcessCameraProvider.getInstance(plugin.getContext());
+        ListenableFuture<ProcessCameraProvider> cameraProviderFuture = getCameraProviderFuture();
         cameraProviderFuture.addListener(() -> {
             try {
                 processCameraProvider = cameraProviderFuture.get();
 
                 CameraSelector cameraSelector = new CameraSelector.Builder().requireLensFacing(this.scanSettings.lensFacing).build();
 
-                previewView = new PreviewView(plugin.getActivity());
-                previewView.setLayoutParams(
-                    new FrameLayout.LayoutParams(FrameLayout.LayoutParams.MATCH_PARENT, FrameLayout.LayoutParams.MATCH_PARENT)
-                );
-                previewView.setScaleType(PreviewView.ScaleType.FILL_CENTER);
-                previewView.setBackgroundColor(Color.BLACK);
+                if (preparedPreviewView == null) {
+                    previewView = createPreviewView();
+                } else {
+                    previewView = preparedPreviewView;
+                    preparedPreviewView = null;
+                }
 
                 // Add preview view behind the WebView
                 ((ViewGroup) plugin.getBridge().getWebView().getParent()).addView(previewView, 0);
-
-                Preview preview = new Preview.Builder().build();
+                previewView.addOnLayoutChangeListener(previewLayoutChangeListener);
+                previewView.getPreviewStreamState().observe((LifecycleOwner) plugin.getContext(), previewStreamStateObserver);
+
+                // The preview resolution is independent of the analysis resolution,
+                // so a sharp preview does not require large analysis frames
+                Preview.Builder previewBuilder = new Preview.Builder();
+                if (scanSettings.previewResolution != null) {
+                    previewBuilder.setResolutionSelector(createResolutionSelector(scanSettings.previewResolution));
+                }
+                if (scanSettings.targetFrameRateRange != null) {
+                    setTargetFrameRateRange(previewBuilder, scanSettings.targetFrameRateRange);
+                }
+                Preview preview = previewBuilder.build();
                 preview.setSurfaceProvider(previewView.getSurfaceProvider());
 
+                // Share the field of view of the preview with the analysis so that the corner points can be mapped to the preview
+                UseCaseGroup.Builder useCaseGroupBuilder = new UseCaseGroup.Builder().addUseCase(preview).addUseCase(imageAnalysis);
+                ViewPort viewPort = createViewPort();
+                if (viewPort != null) {
+                    useCaseGroupBuilder.setViewPort(viewPort);
+                }
+
                 // Start the camera
                 camera = processCameraProvider.bindToLifecycle(
                     (LifecycleOwner) plugin.getContext(),
                     cameraSelector,
-                    preview,
-                    imageAnalysis
+                    useCaseGroupBuilder.build()
                 );
+                configureLowLightController();
 
                 callback.success();
             } catch (Exception exception) {
+                this.cameraProviderFuture = null;
                 callback.error(exception);
             }
         }, ContextCompat.getMainExecutor(plugin.getContext()));
     }
 
+    /**
+     * Initializes the camera provider, the barcode scanner client and the preview view
+     * so that the next `startScan(...)` call can start the camera right away.
+     *
+     * Must run on UI thread.
+     */
+    public void prepareScan(@NonNull PrepareScanOptions options, @NonNull EmptyResultCallback callback) {
+        if (preparedPreviewView == null && previewView == null) {
+            preparedPreviewView = createPreviewView();
+        }
+        ListenableFuture<ProcessCameraProvider> cameraProviderFuture = getCameraProviderFuture();
+        // Run a detection on a blank image so that the model is loaded before the first camera frame arrives
+        com.google.mlkit.vision.barcode.BarcodeScanner barcodeScannerInstance = barcodeScannerClientCache.acquire(options.getFormats());
+        barcodeScannerInstance
+            .process(createBlankInputImage())
+            .addOnCompleteListener(ContextCompat.getMainExecutor(plugin.getContext()), task -> {
+                barcodeScannerClientCache.release(barcodeScannerInstance);
+                cameraProviderFuture.addListener(() -> {
+                    try {
+                        cameraProviderFuture.get();
+                        callback.success();
+                    } catch (Exception exception) {
+                        this.cameraProviderFuture = null;
+                        callback.error(exception);
+                    }
+                }, ContextCompat.getMainExecutor(plugin.getContext()));
+            });
+    }
+
+    /**
+     * Initializes the state that is needed to analyze frames.
+     *
+     * Must run on UI thread.
+     */
+    private void startAnalysisSession(@NonNull ScanSettings scanSettings) throws Exception {
+        this.scanSettings = scanSettings;
+        synchronized (this) {
+            // The cached transform depends on the unit of the corner points
+            this.screenCornerPointsTransform = null;
+        }
+        this.barcodeVoteTracker = new BarcodeVoteTracker(
+            BarcodeVoteTracker.DEFAULT_CAPACITY,
+            scanSettings.voteThreshold,
+            scanSettings.voteTimeout
+        );
+        this.frameRateLimiter = new FrameRateLimiter(scanSettings.maxAnalysisFrameRate, scanSettings.adaptiveAnalysisFrameRate);
+        if (scanSettings.adaptiveAnalysisFrameRate) {
+            registerThermalStatusChangedListener(frameRateLimiter);
+        }
+        if (scanSettings.barcodeTracking) {
+            this.barcodeTracker = new BarcodeTracker(scanSettings.barcodeMovedInterval, scanSettings.barcodeLeftTimeout);
+        }
+        if (scanSettings.adaptiveFormats) {
+            this.adaptiveFormatSelector = new AdaptiveFormatSelector(
+                scanSettings.formats,
+                AdaptiveFormatSelector.DEFAULT_NARROW_THRESHOLD,
+                AdaptiveFormatSelector.DEFAULT_WIDEN_THRESHOLD
+            );
+        }
+        this.scanMetrics = new ScanMetrics();
+        if (scanSettings.eventQueuePolicy != null) {
+            this.scanEventQueue = new ScanEventQueue(
+                scanSettings.eventQueuePolicy,
+                scanSettings.eventQueueCapacity,
+                mainHandler,
+                scanMetrics,
+                plugin::notifyQueuedScanEventListeners
+            );
+        }
+        if (scanSettings.scanMetricsInterval > 0) {
+            startScanMetricsEvents(scanSettings.scanMetricsInterval);
+        }
+
+        if (scanSettings.frameRecordingPath != null) {
+            this.frameRecorder = createFrameRecorder(scanSettings.frameRecordingPath, scanSettings.frameRecordingMaxCount);
+        }
+        if (scanSettings.autoTorch || scanSettings.autoExposureCompensation) {
+            this.lowLightController = new LowLightController(
+                scanSettings.autoTorch,
+                scanSettings.autoExposureCompensation,
+                LowLightController.DEFAULT_DARK_THRESHOLD,
+                LowLightController.DEFAULT_BRIGHT_THRESHOLD
+            );
+            configureLowLightController();
+        }
+        synchronized (this) {
+            barcodeScannerInstance = barcodeScannerClientCache.acquire(scanSettings.formats);
+        }
+    }
+
+    /**
+     * Opens the recording through the content resolver like `replayFrames(...)`,
+     * so that file and content URIs are supported for both.
+     */
+    @NonNull
+    private FrameRecorder createFrameRecorder(@NonNull String path, int maxFrameCount) throws Exception {
+        try {
+            // Truncate the file, "w" does not truncate with every content provider
+            OutputStream outputStream = plugin.getContext().getContentResolver().openOutputStream(Uri.parse(path), "wt");
+            if (outputStream == null) {
+                throw new IOException(BarcodeScannerPlugin.ERROR_CREATE_RECORDING_FAILED);
+            }
+            return new FrameRecorder(outputStream, maxFrameCount);
+        } catch (Exception exception) {
+            throw new Exception(BarcodeScannerPlugin.ERROR_CREATE_RECORDING_FAILED);
+        }
+    }
+
+    /**
+     * Must run on UI thread.
+     */
+    private void stopAnalysisSession() {
+        synchronized (this) {
+            if (barcodeScannerInstance != null) {
+                barcodeScannerClientCache.release(barcodeScannerInstance);
+                barcodeScannerInstance = null;
+            }
+        }
+        scanSettings = null;
+        barcodeVoteTracker = null;
+        frameRateLimiter = null;
+        barcodeTracker = null;
+        adaptiveFormatSelector = null;
+        if (scanEventQueue != null) {
+            scanEventQueue.clear();
+            scanEventQueue = null;
+        }
+        if (frameRecorder != null) {
+            frameRecorder.close();
+            frameRecorder = null;
+        }
+        if (lowLightController != null) {
+            // Only undo the exposure compensation, the torch stays as it is like after a manual change
+            if (camera != null && lowLightController.getExposureCompensationIndex() != 0) {
+                camera.getCameraControl().setExposureCompensationIndex(0);
+            }
+            lowLightController = null;
+        }
+        unregisterThermalStatusChangedListener();
+        stopScanMetricsEvents();
+    }
+
+    /**
+     * Creates a viewport with the aspect ratio of the preview view, or returns `null` if the layout is not known yet.
+     */
+    @Nullable
+    private ViewPort createViewPort() {
+        View parentView = (View) plugin.getBridge().getWebView().getParent();
+        if (parentView.getWidth() == 0 || parentView.getHeight() == 0) {
+            return null;
+        }
+        Display display = parentView.getDisplay();
+        int rotation = display == null ? Surface.ROTATION_0 : display.getRotation();
+        return new ViewPort.Builder(new Rational(parentView.getWidth(), parentView.getHeight()), rotation)
+            .setScaleType(ViewPort.FILL_CENTER)
+            .build();
+    }
+
+    /**
+     * Runs on the analysis executor.
+     */
+    @SuppressLint("UnsafeOptInUsageError")
+    private void updateAnalysisOutputTransform(@NonNull ImageProxy imageProxy) {
+        int rotationDegrees = imageProxy.getImageInfo().getRotationDegrees();
+        Rect cropRect = imageProxy.getCropRect();
+        synchronized (imageProxyTransformFactory) {
+            if (rotationDegrees == analysisRotationDegrees && cropRect.equals(analysisCropRect)) {
+                return;
+            }
+            analysisRotationDegrees = rotationDegrees;
+            analysisCropRect = cropRect;
+            analysisOutputTransform = imageProxyTransformFactory.getOutputTransform(imageProxy);
+        }
+        previewCornerPointsTransform = null;
+        mainHandler.post(this::updatePreviewCornerPointsTransform);
+    }
+
+    /**
+     * Must run on UI thread.
+     */
+    @SuppressLint("UnsafeOptInUsageError")
+    private void updatePreviewCornerPointsTransform() {
+        PreviewView previewView = this.previewView;
+        OutputTransform analysisOutputTransform = this.analysisOutputTransform;
+        ScanSettings scanSettings = this.scanSettings;
+        OutputTransform previewOutputTransform = previewView == null ? null : previewView.getOutputTransform();
+        if (analysisOutputTransform == null || scanSettings == null || previewOutputTransform == null) {
+            previewCornerPointsTransform = null;
+            return;
+        }
+        Matrix matrix = new Matrix();
+        new CoordinateTransform(analysisOutputTransform, previewOutputTransform).transform(matrix);
+        // The WebView may not cover the whole preview view, e.g. if it is inset by the system bars
+        View webView = plugin.getBridge().getWebView();
+        matrix.postTranslate(previewView.getLeft() - webView.getLeft(), previewView.getTop() - webView.getTop());
+        if (scanSettings.cornerPointsInCssPixels) {
+            float scale = 1 / plugin.getContext().getResources().getDisplayMetrics().density;
+            matrix.postScale(scale, scale);
+        }
+        previewCornerPointsTransform = new CornerPointsTransform(matrix);
+    }
+
+    /**
+     * Returns the transform of the corner points from the camera frames to the WebView.
+     *
+     * @param imageSize The size of the unrotated camera frame.
+     */
+    @NonNull
+    private CornerPointsTransform getCornerPointsTransform(@NonNull Point imageSize, boolean cornerPointsInCssPixels) {
+        CornerPointsTransform previewCornerPointsTransform = this.previewCornerPointsTransform;
+        if (previewCornerPointsTransform != null) {
+            return previewCornerPointsTransform;
+        }
+        Point screenSize = plugin.getScreenSize();
+        synchronized (this) {
+            // The image size and the screen size are cached, so they are compared by reference
+            if (
+                screenCornerPointsTransform == null ||
+                screenCornerPointsTransformImageSize != imageSize ||
+                screenCornerPointsTransformScreenSize != screenSize
+            ) {
+                CornerPointsTransform cornerPointsTransform = CornerPointsTransform.createForScreen(imageSize, screenSize);
+                if (cornerPointsInCssPixels) {
+                    cornerPointsTransform = cornerPointsTransform.scale(1 / plugin.getContext().getResources().getDisplayMetrics().density);
+                }
+                screenCornerPointsTransform = cornerPointsTransform;
+                screenCornerPointsTransformImageSize = imageSize;
+                screenCornerPointsTransformScreenSize = screenSize;
+            }
+            return screenCornerPointsTransform;
+        }
+    }
+
+    @NonNull
+    private ResolutionSelector createResolutionSelector(@NonNull Size resolution) {
+        return new ResolutionSelector.Builder()
+            .setResolutionStrategy(new ResolutionStrategy(resolution, ResolutionStrategy.FALLBACK_RULE_CLOSEST_LOWER))
+            .build();
+    }
+
+    /**
+     * Requests the frame rate range from the auto exposure of the camera.
+     * The camera may still deliver fewer frames if the exposure time requires it.
+     */
+    @SuppressLint("UnsafeOptInUsageError")
+    private void setTargetFrameRateRange(@NonNull ExtendableBuilder<?> builder, @NonNull Range<Integer> targetFrameRateRange) {
+        new Camera2Interop.Extender<>(builder).setCaptureRequestOption(CaptureRequest.CONTROL_AE_TARGET_FPS_RANGE, targetFrameRateRange);
+    }
+
     /**
      * Must run on UI thread.
      */
@@ -169,27 +659,141 @@ public class BarcodeScanner implements ImageAnalysis.Analyzer {
         processCameraProvider = null;
         camera = null;
         if (previewView != null) {
+            previewView.removeOnLayoutChangeListener(previewLayoutChangeListener);
+            previewView.getPreviewStreamState().removeObserver(previewStreamStateObserver);
             ((ViewGroup) previewView.getParent()).removeView(previewView);
             previewView = null;
         }
-        barcodeScannerInstance = null;
-        scanSettings = null;
-        barcodeRawValueVotes.clear();
+        synchronized (imageProxyTransformFactory) {
+            analysisOutputTransform = null;
+            analysisCropRect = null;
+            analysisRotationDegrees = -1;
+        }
+        previewCornerPointsTransform = null;
+        imageAnalysis = null;
+        isScanPaused = false;
+        stopAnalysisSession();
     }
 
-    public void readBarcodesFromImage(String path, ScanSettings scanSettings, ReadBarcodesFromImageResultCallback callback)
-        throws Exception {
-        InputImage inputImage;
+    /**
+     * Runs the recorded frames through the same analysis as the camera frames of a scan session.
+     * The frames are processed one after another, so the results do not depend on the speed of the device.
+     * The barcodes are reported to the same listeners as during a scan session.
+     *
+     * Must run on UI thread.
+     */
+    public void replayFrames(
+        @NonNull FrameReplaySource source,
+        @NonNull ScanSettings scanSettings,
+        @NonNull NonEmptyResultCallback<GetScanMetricsResult> callback
+    ) {
+        if (isReplayingFrames) {
+            source.close();
+            callback.error(new Exception(BarcodeScannerPlugin.ERROR_FRAME_REPLAY_ACTIVE));
+            return;
+        }
+        if (this.scanSettings != null) {
+            source.close();
+            callback.error(new Exception(BarcodeScannerPlugin.ERROR_SCAN_SESSION_ACTIVE));
+            return;
+        }
         try {
-            inputImage = InputImage.fromFilePath(plugin.getContext(), Uri.parse(path));
+            startAnalysisSession(scanSettings);
         } catch (Exception exception) {
-            throw new Exception(BarcodeScannerPlugin.ERROR_LOAD_IMAGE_FAILED);
+            source.close();
+            stopAnalysisSession();
+            callback.error(exception);
+            return;
+        }
+        isReplayingFrames = true;
+        ScanMetrics scanMetrics = this.scanMetrics;
+        // A single thread delivers the barcodes in the order of the frames
+        ThreadPoolExecutor analysisExecutor = getAnalysisExecutor(1);
+        ExecutorService replayExecutor = Executors.newSingleThreadExecutor();
+        replayExecutor.execute(() -> {
+            Throwable error = null;
+            try {
+                FrameReplaySource.RecordedFrame frame;
+                while ((frame = source.next()) != null) {
+                    analyze(frame);
+                    frame.awaitClosed();
+                }
+                // The barcodes of the last frame are delivered after the frame has been closed
+                CountDownLatch deliveredLatch = new CountDownLatch(1);
+                analysisExecutor.execute(deliveredLatch::countDown);
+                deliveredLatch.await(REPLAY_DELIVERY_TIMEOUT, TimeUnit.MILLISECONDS);
+            } catch (Throwable throwable) {
+                // Also catch errors like `OutOfMemoryError`, the call must settle in any case
+                error = throwable;
+            } finally {
+                source.close();
+                replayExecutor.shutdown();
+                Exception finalError = error == null || error instanceof Exception
+                    ? (Exception) error
+                    : new Exception(BarcodeScannerPlugin.ERROR_LOAD_RECORDING_FAILED, error);
+                mainHandler.post(() -> {
+                    isReplayingFrames = false;
+                    if (this.scanMetrics == scanMetrics) {
+                        stopAnalysisSession();
+                    }
+                    if (finalError == null) {
+                        callback.success(scanMetrics.createResult());
+                    } else {
+                        callback.error(finalError);
+                    }
+                });
+            }
+        });
+    }
+
+    /**
+     * Stops analyzing the camera frames while the camera and the preview stay active.
+     *
+     * Must run on UI thread.
+     */
+    public void pauseScan() {
+        if (imageAnalysis == null) {
+            return;
+        }
+        isScanPaused = true;
+        imageAnalysis.clearAnalyzer();
+    }
+
+    /**
+     * Must run on UI thread.
+     */
+    public void resumeScan() {
+        ScanSettings scanSettings = this.scanSettings;
+        if (imageAnalysis == null || scanSettings == null || !isScanPaused) {
+            return;
+        }
+        isScanPaused = false;
+        imageAnalysis.setAnalyzer(getAnalysisExecutor(scanSettings.analysisThreadCount), this);
+    }
+
+    public void handleOnDestroy() {
+        if (analysisExecutor != null) {
+            analysisExecutor.shutdown();
+            analysisExecutor = null;
         }
+        barcodeScannerClientCache.close();
+        synchronized (gmsBarcodeScanners) {
+            gmsBarcodeScanners.clear();
+        }
+        frameBufferPool.clear();
+        preparedPreviewView = null;
+    }
+
+    public void readBarcodesFromImage(String path, ScanSettings scanSettings, ReadBarcodesFromImageResultCallback callback)
+        throws Exception {
+        InputImage inputImage = createInputImageFromFilePath(path);
 
-        BarcodeScannerOptions options = buildBarcodeScannerOptions(scanSettings);
-        com.google.mlkit.vision.barcode.BarcodeScanner barcodeScannerInstance = BarcodeScanning.getClient(options);
+        com.google.mlkit.vision.barcode.BarcodeScanner barcodeScannerInstance = barcodeScannerClientCache.acquire(scanSettings.formats);
         barcodeScannerInstance
             .process(inputImage)
+            .addOnCompleteListener(task -> {
+                barcodeScannerClientCache.release(barcodeScannerInstance);
+            })
             .addOnSuccessListener(barcodes -> {
                 callback.success(barcodes);
             })
@@ -198,9 +802,115 @@ public class BarcodeScanner implements ImageAnalysis.Analyzer {
             });
     }
 
+    /**
+     * Reads the barcodes from a large image by splitting it into overlapping tiles that are processed in parallel.
+     */
+    public void readBarcodesFromImageWithTiling(
+        @NonNull String path,
+        @NonNull ScanSettings scanSettings,
+        @NonNull NonEmptyResultCallback<ReadBarcodesFromImageResult> callback
+    ) {
+        com.google.mlkit.vision.barcode.BarcodeScanner barcodeScannerInstance = barcodeScannerClientCache.acquire(scanSettings.formats);
+        int threadCount = Math.min(MAX_READ_IMAGES_THREAD_COUNT, Runtime.getRuntime().availableProcessors());
+        TiledImageReader tiledImageReader = new TiledImageReader(
+            plugin.getContext().getContentResolver(),
+            barcodeScannerInstance,
+            scanSettings.tileSize,
+            threadCount
+        );
+        tiledImageReader.read(Uri.parse(path), releaseClientOnSettle(barcodeScannerInstance, callback));
+    }
+
+    /**
+     * Reads the barcodes from multiple images in parallel.
+     * The barcodes of each image are emitted as soon as the image has been processed.
+     */
+    public void readBarcodesFromImages(
+        @NonNull ReadBarcodesFromImagesOptions options,
+        @NonNull NonEmptyResultCallback<ReadBarcodesFromImagesResult> callback
+    ) {
+        String batchId = options.getBatchId();
+        List<String> paths = options.getPaths();
+        if (paths.isEmpty()) {
+            callback.success(new ReadBarcodesFromImagesResult(batchId, 0, 0, 0));
+            return;
+        }
+
+        com.google.mlkit.vision.barcode.BarcodeScanner barcodeScannerInstance = barcodeScannerClientCache.acquire(options.getFormats());
+        int threadCount = Math.min(paths.size(), Math.min(MAX_READ_IMAGES_THREAD_COUNT, Runtime.getRuntime().availableProcessors()));
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, threadCount));
+        AtomicInteger remainingImageCount = new AtomicInteger(paths.size());
+        AtomicInteger failedImageCount = new AtomicInteger();
+        AtomicInteger barcodeCount = new AtomicInteger();
+        for (int i = 0; i < paths.size(); i++) {
+            int index = i;
+            String path = paths.get(i);
+            executor.execute(() -> {
+                try {
+                    InputImage inputImage = createInputImageFromFilePath(path);
+                    List<Barcode> barcodes = Tasks.await(barcodeScannerInstance.process(inputImage));
+                    barcodeCount.addAndGet(barcodes.size());
+                    plugin.notifyImageBarcodesReadListener(new ImageBarcodesReadEvent(batchId, index, path, barcodes, null));
+                } catch (Exception exception) {
+                    Exception cause = exception instanceof ExecutionException && exception.getCause() instanceof Exception
+                        ? (Exception) exception.getCause()
+                        : exception;
+                    failedImageCount.incrementAndGet();
+                    plugin.notifyImageBarcodesReadListener(
+                        new ImageBarcodesReadEvent(batchId, index, path, Collections.emptyList(), cause.getMessage())
+                    );
+                }
+                if (remainingImageCount.decrementAndGet() == 0) {
+                    executor.shutdown();
+                    barcodeScannerClientCache.release(barcodeScannerInstance);
+                    callback.success(new ReadBarcodesFromImagesResult(batchId, paths.size(), failedImageCount.get(), barcodeCount.get()));
+                }
+            });
+        }
+    }
+
+    /**
+     * Reads the barcodes from the pages of a PDF document.
+     * The barcodes of each page are emitted as soon as the page has been processed.
+     */
+    public void readBarcodesFromPdf(
+        @NonNull ReadBarcodesFromPdfOptions options,
+        @NonNull NonEmptyResultCallback<ReadBarcodesFromPdfResult> callback
+    ) {
+        com.google.mlkit.vision.barcode.BarcodeScanner barcodeScannerInstance = barcodeScannerClientCache.acquire(options.getFormats());
+        int threadCount = Math.min(MAX_READ_IMAGES_THREAD_COUNT, Runtime.getRuntime().availableProcessors());
+        PdfBarcodeReader pdfBarcodeReader = new PdfBarcodeReader(
+            plugin.getContext().getContentResolver(),
+            barcodeScannerInstance,
+            options.getDpi(),
+            threadCount,
+            plugin::notifyPdfPageBarcodesReadListener
+        );
+        pdfBarcodeReader.read(Uri.parse(options.getPath()), releaseClientOnSettle(barcodeScannerInstance, callback));
+    }
+
+    /**
+     * Reads the barcodes from the frames of a video file.
+     * The barcodes of each analyzed frame are emitted as soon as the frame has been processed.
+     */
+    public void readBarcodesFromVideo(
+        @NonNull ReadBarcodesFromVideoOptions options,
+        @NonNull NonEmptyResultCallback<ReadBarcodesFromVideoResult> callback
+    ) {
+        com.google.mlkit.vision.barcode.BarcodeScanner barcodeScannerInstance = barcodeScannerClientCache.acquire(options.getFormats());
+        VideoBarcodeReader videoBarcodeReader = new VideoBarcodeReader(
+            plugin.getContext(),
+            barcodeScannerInstance,
+            options.getFrameInterval(),
+            new BarcodeVoteTracker(BarcodeVoteTracker.DEFAULT_CAPACITY, options.getVoteThreshold(), options.getVoteTimeout()),
+            new BarcodeTracker(BarcodeTracker.DEFAULT_MOVED_INTERVAL, BarcodeTracker.DEFAULT_LEFT_TIMEOUT),
+            plugin::notifyVideoBarcodesReadListener
+        );
+        videoBarcodeReader.read(Uri.parse(options.getPath()), releaseClientOnSettle(barcodeScannerInstance, callback));
+    }
+
     public void scan(ScanSettings scanSettings, ScanResultCallback callback) {
-        GmsBarcodeScannerOptions options = buildGmsBarcodeScannerOptions(scanSettings);
-        GmsBarcodeScanner scanner = GmsBarcodeScanning.getClient(plugin.getContext(), options);
+        GmsBarcodeScanner scanner = getGmsBarcodeScanner(scanSettings);
 
         scanner
             .startScan()
@@ -216,12 +926,18 @@ public class BarcodeScanner implements ImageAnalysis.Analyzer {
     }
 
     public void isGoogleBarcodeScannerModuleAvailable(IsGoogleBarodeScannerModuleAvailableResultCallback callback) {
-        GmsBarcodeScanner scanner = GmsBarcodeScanning.getClient(plugin.getContext());
+        if (isGoogleBarcodeScannerModuleAvailable) {
+            // Skip the Google Play services round trip
+            callback.success(true);
+            return;
+        }
+        GmsBarcodeScanner scanner = getGmsBarcodeScanner(new ScanSettings());
         ModuleInstallClient moduleInstallClient = ModuleInstall.getClient(plugin.getContext());
         moduleInstallClient
             .areModulesAvailable(scanner)
             .addOnSuccessListener(response -> {
                 boolean isAvailable = response.areModulesAvailable();
+                isGoogleBarcodeScannerModuleAvailable = isAvailable;
                 callback.success(isAvailable);
             })
             .addOnFailureListener(exception -> {
@@ -230,9 +946,12 @@ public class BarcodeScanner implements ImageAnalysis.Analyzer {
     }
 
     public void installGoogleBarcodeScannerModule(InstallGoogleBarcodeScannerModuleResultCallback callback) {
-        GmsBarcodeScanner scanner = GmsBarcodeScanning.getClient(plugin.getContext());
-        InstallStatusListener listener = new ModuleInstallProgressListener(this);
-        ModuleInstallRequest moduleInstallRequest = ModuleInstallRequest.newBuilder().addApi(scanner).setListener(listener).build();
+        GmsBarcodeScanner scanner = getGmsBarcodeScanner(new ScanSettings());
+        moduleInstallProgressListener = new ModuleInstallProgressListener(this);
+        ModuleInstallRequest moduleInstallRequest = ModuleInstallRequest.newBuilder()
+            .addApi(scanner)
+            .setListener(moduleInstallProgressListener)
+            .build();
         ModuleInstallClient moduleInstallClient = ModuleInstall.getClient(plugin.getContext());
         moduleInstallClient
             .installModules(moduleInstallRequest)
@@ -256,6 +975,7 @@ public class BarcodeScanner implements ImageAnalysis.Analyzer {
         if (camera == null) {
             return;
         }
+        releaseTorchFromLowLightController();
         camera.getCameraControl().enableTorch(true);
         isTorchEnabled = true;
     }
@@ -264,6 +984,7 @@ public class BarcodeScanner implements ImageAnalysis.Analyzer {
         if (camera == null) {
             return;
         }
+        releaseTorchFromLowLightController();
         camera.getCameraControl().enableTorch(false);
         isTorchEnabled = false;
     }
@@ -345,49 +1066,273 @@ public class BarcodeScanner implements ImageAnalysis.Analyzer {
         }
     }
 
+    @Nullable
+    public GetScanMetricsResult getScanMetrics() {
+        ScanMetrics scanMetrics = this.scanMetrics;
+        if (scanMetrics == null) {
+            return null;
+        }
+        return scanMetrics.createResult();
+    }
+
+    /**
+     * Returns the queue for the scan events or `null` if the listeners should be notified directly.
+     */
+    @Nullable
+    public ScanEventQueue getScanEventQueue() {
+        return scanEventQueue;
+    }
+
     public boolean isCameraActive() {
         return camera != null;
     }
 
+    /**
+     * Runs on the analysis executor.
+     */
     @Override
     public void analyze(@NonNull ImageProxy imageProxy) {
         @SuppressLint("UnsafeOptInUsageError")
         Image image = imageProxy.getImage();
-
-        if (image == null || barcodeScannerInstance == null) {
+        if (image == null) {
+            imageProxy.close();
             return;
         }
+        updateAnalysisOutputTransform(imageProxy);
+        analyze(new CameraAnalysisFrame(imageProxy, image));
+    }
 
-        InputImage inputImage = InputImage.fromMediaImage(image, imageProxy.getImageInfo().getRotationDegrees());
-        Point imageSize = new Point(inputImage.getWidth(), inputImage.getHeight());
+    /**
+     * Runs on the analysis executor or on the replay thread.
+     */
+    private void analyze(@NonNull AnalysisFrame frame) {
+        com.google.mlkit.vision.barcode.BarcodeScanner barcodeScannerInstance = this.barcodeScannerInstance;
+        BarcodeVoteTracker barcodeVoteTracker = this.barcodeVoteTracker;
+        FrameRateLimiter frameRateLimiter = this.frameRateLimiter;
+        ThreadPoolExecutor analysisExecutor = this.analysisExecutor;
+        ScanMetrics scanMetrics = this.scanMetrics;
+
+        if (
+            barcodeScannerInstance == null ||
+            barcodeVoteTracker == null ||
+            frameRateLimiter == null ||
+            analysisExecutor == null ||
+            scanMetrics == null
+        ) {
+            frame.close();
+            return;
+        }
+        FrameRecorder frameRecorder = this.frameRecorder;
+        if (frameRecorder != null) {
+            try {
+                frameRecorder.record(frame);
+            } catch (IOException exception) {
+                // Stop recording, e.g. if the storage is full
+                this.frameRecorder = null;
+                frameRecorder.close();
+            }
+        }
+        long frameReceivedTime = SystemClock.elapsedRealtime();
+        scanMetrics.recordFrameReceived();
+
+        long timestamp = frame.getTimestamp();
+        if (!frameRateLimiter.tryAcquire(timestamp)) {
+            // Skip the frame
+            scanMetrics.recordFrameSkipped();
+            frame.close();
+            return;
+        }
+        long processingStartTime = SystemClock.elapsedRealtime();
+
+        int rotationDegrees = frame.getRotationDegrees();
+        int frameWidth = frame.getWidth();
+        int frameHeight = frame.getHeight();
+        Point imageSize = lastImageSize;
+        if (imageSize == null || imageSize.x != frameWidth || imageSize.y != frameHeight) {
+            imageSize = new Point(frameWidth, frameHeight);
+            lastImageSize = imageSize;
+        }
+        ScanSettings scanSettings = this.scanSettings;
+        CornerPointsTransform cornerPointsTransform = getCornerPointsTransform(
+            imageSize,
+            scanSettings != null && scanSettings.cornerPointsInCssPixels
+        );
+        Rect regionOfInterest = scanSettings == null ? null : scanSettings.regionOfInterest;
+        Rect cropRect = null;
+        Point cornerPointsOffset = null;
+        if (regionOfInterest != null) {
+            // Only pass the region of interest to ML Kit
+            boolean isRotated = rotationDegrees == 90 || rotationDegrees == 270;
+            Rect imageRegion = cornerPointsTransform.mapRectToImage(
+                regionOfInterest,
+                isRotated ? frameHeight : frameWidth,
+                isRotated ? frameWidth : frameHeight
+            );
+            if (imageRegion.width() < 2 || imageRegion.height() < 2) {
+                scanMetrics.recordFrameSkipped();
+                frameRateLimiter.release();
+                frame.close();
+                return;
+            }
+            cropRect = BarcodeScannerHelper.rotateImageRectToBufferRect(imageRegion, imageSize, rotationDegrees);
+            cornerPointsOffset = new Point(imageRegion.left, imageRegion.top);
+        }
+        LowLightController lowLightController = this.lowLightController;
+        float minFrameSharpness = scanSettings == null ? 0 : scanSettings.minFrameSharpness;
+        Rect sampleRegion = null;
+        if (lowLightController != null || minFrameSharpness > 0) {
+            sampleRegion = cropRect == null ? new Rect(0, 0, frameWidth, frameHeight) : cropRect;
+        }
+        if (lowLightController != null) {
+            // Measure the brightness before the sharpness check, since dark frames are often blurred as well
+            double luminance = LuminanceEstimator.estimate(frame.getLuminanceBuffer(), frame.getLuminanceRowStride(), sampleRegion);
+            LowLightController.Action action = lowLightController.update(luminance, timestamp);
+            if (action != LowLightController.Action.NONE) {
+                mainHandler.post(() -> applyLowLightAction(lowLightController, action));
+            }
+        }
+        if (minFrameSharpness > 0) {
+            // Skip blurred frames that can most likely not be decoded
+            double sharpness = SharpnessEstimator.estimate(frame.getLuminanceBuffer(), frame.getLuminanceRowStride(), sampleRegion);
+            if (sharpness < minFrameSharpness) {
+                scanMetrics.recordFrameBlurred();
+                frameRateLimiter.release();
+                frame.close();
+                return;
+            }
+        }
+        if (!barcodeScannerClientCache.retain(barcodeScannerInstance)) {
+            // The scan session was stopped and the client was closed in the meantime
+            frameRateLimiter.release();
+            frame.close();
+            return;
+        }
+        boolean grayscaleInput = scanSettings != null && scanSettings.grayscaleInput;
+        InputImage inputImage;
+        ByteBuffer frameBuffer = null;
+        Image image = frame.getMediaImage();
+        if (image != null && cropRect == null && !grayscaleInput) {
+            inputImage = InputImage.fromMediaImage(image, rotationDegrees);
+        } else {
+            // Barcode detection only needs the luminance, so only the Y plane is copied
+            int left = cropRect == null ? 0 : cropRect.left;
+            int top = cropRect == null ? 0 : cropRect.top;
+            // NV21 requires even dimensions
+            int width = (cropRect == null ? frameWidth : cropRect.width()) & ~1;
+            int height = (cropRect == null ? frameHeight : cropRect.height()) & ~1;
+            frameBuffer = frameBufferPool.acquireNv21Buffer(width, height);
+            inputImage = createGrayscaleInputImage(frame, left, top, width, height, rotationDegrees, frameBuffer);
+        }
+        ByteBuffer finalFrameBuffer = frameBuffer;
+        Point finalCornerPointsOffset = cornerPointsOffset;
         barcodeScannerInstance
             .process(inputImage)
-            .addOnSuccessListener(barcodes -> {
-                if (scanSettings == null) {
-                    // Scanning stopped while processing the image
+            .addOnCompleteListener(analysisExecutor, task -> {
+                // A single listener keeps the steps in order, even if the analysis executor has more than one thread
+                long latency = SystemClock.elapsedRealtime() - processingStartTime;
+                barcodeScannerClientCache.release(barcodeScannerInstance);
+                if (finalFrameBuffer != null) {
+                    frameBufferPool.release(finalFrameBuffer);
+                }
+                if (!task.isSuccessful()) {
+                    scanMetrics.recordFrameFailed();
+                    frameRateLimiter.release(latency);
+                    frame.close();
+                    Exception exception = task.getException();
+                    if (exception != null) {
+                        handleScanError(exception);
+                    }
+                    return;
+                }
+                List<Barcode> barcodes = task.getResult();
+                scanMetrics.recordFrameAnalyzed(latency);
+                if (scanSettings == null || this.scanSettings != scanSettings || isScanPaused) {
+                    // Scanning stopped, restarted or paused while processing the image
+                    frameRateLimiter.release(latency);
+                    frame.close();
                     return;
                 }
-                List<Barcode> barcodesWithEnoughVotes = voteForBarcodes(barcodes);
-                for (Barcode barcode : barcodesWithEnoughVotes) {
-                    handleScannedBarcode(barcode, imageSize);
+                AdaptiveFormatSelector adaptiveFormatSelector = this.adaptiveFormatSelector;
+                if (adaptiveFormatSelector != null) {
+                    int[] formats = adaptiveFormatSelector.update(barcodes);
+                    if (formats != null) {
+                        switchBarcodeScannerInstance(formats);
+                    }
                 }
+                long analysisInterval = frameRateLimiter.getAnalysisInterval();
+                barcodeVoteTracker.setFrameInterval(analysisInterval);
+                List<Barcode> barcodesWithEnoughVotes = barcodeVoteTracker.vote(barcodes, timestamp);
+                scanMetrics.recordBarcodes(
+                    barcodesWithEnoughVotes.size(),
+                    barcodes.size() - barcodesWithEnoughVotes.size(),
+                    SystemClock.elapsedRealtime() - frameReceivedTime
+                );
+                BarcodeTracker barcodeTracker = this.barcodeTracker;
+                if (barcodeTracker != null) {
+                    barcodeTracker.setFrameInterval(analysisInterval);
+                    BarcodeTracker.Update update = barcodeTracker.update(barcodesWithEnoughVotes, timestamp);
+                    if (!update.isEmpty()) {
+                        // The track events depend on each other, so they are delivered before the next frame is analyzed
+                        handleTrackedBarcodes(update, cornerPointsTransform, finalCornerPointsOffset, scanSettings.fields);
+                    }
+                }
+                // The next frame can be analyzed on another thread while the barcodes of this frame are serialized
+                frameRateLimiter.release(latency);
+                frame.close();
                 if (barcodesWithEnoughVotes.size() > 0) {
-                    handleScannedBarcodes(barcodesWithEnoughVotes.toArray(new Barcode[0]), imageSize);
+                    handleScannedBarcodes(
+                        barcodesWithEnoughVotes.toArray(new Barcode[0]),
+                        cornerPointsTransform,
+                        finalCornerPointsOffset,
+                        scanSettings.fields
+                    );
                 }
-            })
-            .addOnFailureListener(exception -> {
-                handleScanError(exception);
-            })
-            .addOnCompleteListener(task -> {
-                imageProxy.close();
-                image.close();
             });
     }
 
+    /**
+     * Replaces the client of the scan session with the client for the given barcode formats.
+     * The clients are cached, so switching back and forth does not rebuild them.
+     */
+    private synchronized void switchBarcodeScannerInstance(@NonNull int[] formats) {
+        com.google.mlkit.vision.barcode.BarcodeScanner previousBarcodeScannerInstance = this.barcodeScannerInstance;
+        if (previousBarcodeScannerInstance == null) {
+            // The scan session was stopped in the meantime
+            return;
+        }
+        this.barcodeScannerInstance = barcodeScannerClientCache.acquire(formats);
+        barcodeScannerClientCache.release(previousBarcodeScannerInstance);
+    }
+
+    /**
+     * Returns a callback that releases the client once the read operation has settled.
+     */
+    @NonNull
+    private <T extends Result> NonEmptyResultCallback<T> releaseClientOnSettle(
+        @NonNull com.google.mlkit.vision.barcode.BarcodeScanner barcodeScannerInstance,
+        @NonNull NonEmptyResultCallback<T> callback
+    ) {
+        return new NonEmptyResultCallback<T>() {
+            @Override
+            public void success(@NonNull T result) {
+                barcodeScannerClientCache.release(barcodeScannerInstance);
+                callback.success(result);
+            }
+
+            @Override
+            public void error(Exception exception) {
+                barcodeScannerClientCache.release(barcodeScannerInstance);
+                callback.error(exception);
+            }
+        };
+    }
+
     public void handleGoogleBarcodeScannerModuleInstallProgress(
         @ModuleInstallStatusUpdate.InstallState int state,
         @Nullable Integer progress
     ) {
+        // The availability is checked again on the next call
+        isGoogleBarcodeScannerModuleAvailable = false;
         plugin.notifyGoogleBarcodeScannerModuleInstallProgressListener(state, progress);
         boolean isTerminateState = ModuleInstallProgressListener.isTerminateState(state);
         if (isTerminateState && moduleInstallProgressListener != null) {
@@ -411,22 +1356,254 @@ public class BarcodeScanner implements ImageAnalysis.Analyzer {
         plugin.getBridge().getWebView().setBackgroundColor(Color.WHITE);
     }
 
-    private void handleScannedBarcode(Barcode barcode, Point imageSize) {
-        plugin.notifyBarcodeScannedListener(barcode, imageSize);
+    private void handleScannedBarcodes(
+        Barcode[] barcodes,
+        @NonNull CornerPointsTransform cornerPointsTransform,
+        @Nullable Point cornerPointsOffset,
+        @Nullable Set<String> fields
+    ) {
+        plugin.notifyBarcodesScannedListeners(barcodes, cornerPointsTransform, cornerPointsOffset, fields);
+    }
+
+    private void handleTrackedBarcodes(
+        BarcodeTracker.Update update,
+        @NonNull CornerPointsTransform cornerPointsTransform,
+        @Nullable Point cornerPointsOffset,
+        @Nullable Set<String> fields
+    ) {
+        plugin.notifyBarcodeTrackListeners(update, cornerPointsTransform, cornerPointsOffset, fields);
+    }
+
+    /**
+     * Must run on UI thread.
+     */
+    private void startScanMetricsEvents(long interval) {
+        stopScanMetricsEvents();
+        scanMetricsRunnable = new Runnable() {
+            @Override
+            public void run() {
+                ScanMetrics scanMetrics = BarcodeScanner.this.scanMetrics;
+                if (scanMetrics != null) {
+                    plugin.notifyScanMetricsListener(scanMetrics.createResult());
+                }
+                mainHandler.postDelayed(this, interval);
+            }
+        };
+        mainHandler.postDelayed(scanMetricsRunnable, interval);
+    }
+
+    /**
+     * Must run on UI thread.
+     */
+    private void stopScanMetricsEvents() {
+        if (scanMetricsRunnable == null) {
+            return;
+        }
+        mainHandler.removeCallbacks(scanMetricsRunnable);
+        scanMetricsRunnable = null;
+    }
+
+    @NonNull
+    private ListenableFuture<ProcessCameraProvider> getCameraProviderFuture() {
+        if (cameraProviderFuture == null) {
+            cameraProviderFuture = ProcessCameraProvider.getInstance(plugin.getContext());
+        }
+        return cameraProviderFuture;
+    }
+
+    /**
+     * Must run on UI thread.
+     */
+    @NonNull
+    private PreviewView createPreviewView() {
+        PreviewView previewView = new PreviewView(plugin.getActivity());
+        previewView.setLayoutParams(new FrameLayout.LayoutParams(FrameLayout.LayoutParams.MATCH_PARENT, FrameLayout.LayoutParams.MATCH_PARENT));
+        previewView.setScaleType(PreviewView.ScaleType.FILL_CENTER);
+        previewView.setBackgroundColor(Color.BLACK);
+        return previewView;
     }
 
-    private void handleScannedBarcodes(Barcode[] barcodes, Point imageSize) {
-        plugin.notifyBarcodesScannedListener(barcodes, imageSize);
+    @NonNull
+    private static InputImage createBlankInputImage() {
+        byte[] nv21 = new byte[WARM_UP_IMAGE_WIDTH * WARM_UP_IMAGE_HEIGHT * 3 / 2];
+        return InputImage.fromByteArray(nv21, WARM_UP_IMAGE_WIDTH, WARM_UP_IMAGE_HEIGHT, 0, InputImage.IMAGE_FORMAT_NV21);
     }
 
     private void handleScanError(Exception exception) {
         plugin.notifyScanErrorListener(exception.getMessage());
     }
 
-    private BarcodeScannerOptions buildBarcodeScannerOptions(ScanSettings scanSettings) {
-        int[] formats = scanSettings.formats.length == 0 ? new int[] { Barcode.FORMAT_ALL_FORMATS } : scanSettings.formats;
-        BarcodeScannerOptions options = new BarcodeScannerOptions.Builder().setBarcodeFormats(formats[0], formats).build();
-        return options;
+    /**
+     * Passes the torch and exposure capabilities of the bound camera to the low light controller.
+     *
+     * Must run on UI thread.
+     */
+    private void configureLowLightController() {
+        LowLightController lowLightController = this.lowLightController;
+        if (lowLightController == null || camera == null) {
+            return;
+        }
+        lowLightController.setTorchAvailable(camera.getCameraInfo().hasFlashUnit() && !isTorchEnabled);
+        ExposureState exposureState = camera.getCameraInfo().getExposureState();
+        if (exposureState.isExposureCompensationSupported()) {
+            lowLightController.setExposureCompensationRange(
+                exposureState.getExposureCompensationRange().getUpper(),
+                exposureState.getExposureCompensationStep().floatValue()
+            );
+        }
+    }
+
+    /**
+     * Must run on UI thread.
+     */
+    private void applyLowLightAction(@NonNull LowLightController lowLightController, @NonNull LowLightController.Action action) {
+        // Ignore actions of a previous scan session
+        if (camera == null || this.lowLightController != lowLightController) {
+            return;
+        }
+        CameraControl cameraControl = camera.getCameraControl();
+        switch (action) {
+            case ENABLE_TORCH:
+                cameraControl.enableTorch(true);
+                isTorchEnabled = true;
+                break;
+            case DISABLE_TORCH:
+                cameraControl.enableTorch(false);
+                isTorchEnabled = false;
+                break;
+            case INCREASE_EXPOSURE_COMPENSATION:
+            case DECREASE_EXPOSURE_COMPENSATION:
+                cameraControl.setExposureCompensationIndex(lowLightController.getExposureCompensationIndex());
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * A manual change of the torch takes precedence over the automatic torch for the rest of the scan session.
+     */
+    private void releaseTorchFromLowLightController() {
+        LowLightController lowLightController = this.lowLightController;
+        if (lowLightController != null) {
+            lowLightController.releaseTorch();
+            lowLightController.setTorchAvailable(false);
+        }
+    }
+
+    private void registerThermalStatusChangedListener(@NonNull FrameRateLimiter frameRateLimiter) {
+        if (Build.VERSION.SDK_INT < Build.VERSION_CODES.Q) {
+            return;
+        }
+        unregisterThermalStatusChangedListener();
+        PowerManager powerManager = plugin.getContext().getSystemService(PowerManager.class);
+        if (powerManager == null) {
+            return;
+        }
+        frameRateLimiter.setThermalStatus(powerManager.getCurrentThermalStatus());
+        thermalStatusChangedListener = frameRateLimiter::setThermalStatus;
+        powerManager.addThermalStatusListener(ContextCompat.getMainExecutor(plugin.getContext()), thermalStatusChangedListener);
+    }
+
+    private void unregisterThermalStatusChangedListener() {
+        if (Build.VERSION.SDK_INT < Build.VERSION_CODES.Q || thermalStatusChangedListener == null) {
+            return;
+        }
+        PowerManager powerManager = plugin.getContext().getSystemService(PowerManager.class);
+        if (powerManager != null) {
+            powerManager.removeThermalStatusListener(thermalStatusChangedListener);
+        }
+        thermalStatusChangedListener = null;
+    }
+
+    /**
+     * Copies the luminance of the given region into a NV21 image.
+     * The chrominance is not needed for barcode detection and is expected to be set to a neutral value already.
+     *
+     * @param left The left edge of the region in the coordinates of the unrotated image buffer.
+     * @param top The top edge of the region in the coordinates of the unrotated image buffer.
+     */
+    @NonNull
+    private static InputImage createGrayscaleInputImage(
+        @NonNull AnalysisFrame frame,
+        int left,
+        int top,
+        int width,
+        int height,
+        int rotationDegrees,
+        @NonNull ByteBuffer nv21
+    ) {
+        ByteBuffer yBuffer = frame.getLuminanceBuffer();
+        int rowStride = frame.getLuminanceRowStride();
+        nv21.clear();
+        if (left == 0 && rowStride == width) {
+            yBuffer.limit(top * rowStride + width * height);
+            yBuffer.position(top * rowStride);
+            nv21.put(yBuffer);
+        } else {
+            for (int row = 0; row < height; row++) {
+                int offset = (top + row) * rowStride + left;
+                yBuffer.limit(offset + width);
+                yBuffer.position(offset);
+                nv21.put(yBuffer);
+            }
+        }
+        yBuffer.clear();
+        nv21.clear();
+        return InputImage.fromByteBuffer(nv21, width, height, rotationDegrees, InputImage.IMAGE_FORMAT_NV21);
+    }
+
+    @NonNull
+    private InputImage createInputImageFromFilePath(@NonNull String path) throws Exception {
+        try {
+            return InputImage.fromFilePath(plugin.getContext(), Uri.parse(path));
+        } catch (Exception exception) {
+            throw new Exception(BarcodeScannerPlugin.ERROR_LOAD_IMAGE_FAILED);
+        }
+    }
+
+    /**
+     * Returns the analysis executor and resizes its pool to the requested number of threads.
+     * The executor is kept alive across scan sessions so that pending result listeners are not rejected.
+     *
+     * Only one frame is analyzed at a time, but with more than one thread the next frame is already
+     * prepared and passed to ML Kit while the barcodes of the previous frame are still serialized.
+     */
+    private ThreadPoolExecutor getAnalysisExecutor(int threadCount) {
+        int poolSize = Math.max(1, threadCount);
+        if (analysisExecutor == null) {
+            analysisExecutor = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                new ThreadPoolExecutor.DiscardPolicy()
+            );
+        } else if (poolSize > analysisExecutor.getMaximumPoolSize()) {
+            analysisExecutor.setMaximumPoolSize(poolSize);
+            analysisExecutor.setCorePoolSize(poolSize);
+        } else if (poolSize < analysisExecutor.getMaximumPoolSize()) {
+            analysisExecutor.setCorePoolSize(poolSize);
+            analysisExecutor.setMaximumPoolSize(poolSize);
+        }
+        return analysisExecutor;
+    }
+
+    /**
+     * Returns the cached Google code scanner client for the formats and the auto zoom setting.
+     */
+    @NonNull
+    private GmsBarcodeScanner getGmsBarcodeScanner(@NonNull ScanSettings scanSettings) {
+        String key = BarcodeScannerClientCache.createKey(scanSettings.formats) + (scanSettings.autoZoom ? ":autoZoom" : "");
+        synchronized (gmsBarcodeScanners) {
+            GmsBarcodeScanner scanner = gmsBarcodeScanners.get(key);
+            if (scanner == null) {
+                scanner = GmsBarcodeScanning.getClient(plugin.getContext(), buildGmsBarcodeScannerOptions(scanSettings));
+                gmsBarcodeScanners.put(key, scanner);
+            }
+            return scanner;
+        }
     }
 
     private GmsBarcodeScannerOptions buildGmsBarcodeScannerOptions(ScanSettings scanSettings) {
@@ -443,30 +1620,60 @@ public class BarcodeScanner implements ImageAnalysis.Analyzer {
         return options;
     }
 
-    @Nullable
-    private Integer voteForBarcode(Barcode barcode) {
-        String rawValue = barcode.getRawValue();
-        if (rawValue == null) {
-            return null;
-        } else {
-            if (barcodeRawValueVotes.containsKey(rawValue)) {
-                barcodeRawValueVotes.put(rawValue, barcodeRawValueVotes.get(rawValue) + 1);
-            } else {
-                barcodeRawValueVotes.put(rawValue, 1);
-            }
-            return barcodeRawValueVotes.get(rawValue);
+    private static class CameraAnalysisFrame implements AnalysisFrame {
+
+        @NonNull
+        private final ImageProxy imageProxy;
+
+        @NonNull
+        private final Image image;
+
+        private CameraAnalysisFrame(@NonNull ImageProxy imageProxy, @NonNull Image image) {
+            this.imageProxy = imageProxy;
+            this.image = image;
         }
-    }
 
-    private List<Barcode> voteForBarcodes(List<Barcode> barcodes) {
-        List<Barcode> barcodesWithEnoughVotes = new ArrayList<>();
-        for (Barcode barcode : barcodes) {
-            Integer votes = voteForBarcode(barcode);
-            if (votes == null || votes >= 10) {
-                // Do not filter out barcodes without raw value.
-                barcodesWithEnoughVotes.add(barcode);
-            }
+        @Override
+        public int getWidth() {
+            return image.getWidth();
+        }
+
+        @Override
+        public int getHeight() {
+            return image.getHeight();
+        }
+
+        @Override
+        public int getRotationDegrees() {
+            return imageProxy.getImageInfo().getRotationDegrees();
+        }
+
+        @Override
+        public long getTimestamp() {
+            return TimeUnit.NANOSECONDS.toMillis(imageProxy.getImageInfo().getTimestamp());
+        }
+
+        @Override
+        @NonNull
+        public ByteBuffer getLuminanceBuffer() {
+            return imageProxy.getPlanes()[0].getBuffer();
+        }
+
+        @Override
+        public int getLuminanceRowStride() {
+            return imageProxy.getPlanes()[0].getRowStride();
+        }
+
+        @Override
+        @Nullable
+        public Image getMediaImage() {
+            return image;
+        }
+
+        @Override
+        public void close() {
+            imageProxy.close();
+            image.close();
         }
-        return barcodesWithEnoughVotes;
     }
 }
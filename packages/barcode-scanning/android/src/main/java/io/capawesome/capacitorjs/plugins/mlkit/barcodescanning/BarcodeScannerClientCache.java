@@ -0,0 +1,138 @@
+package io.capawesome.capacitorjs.plugins.mlkit.barcodescanning;
+
+import androidx.annotation.NonNull;
+import com.google.mlkit.vision.barcode.BarcodeScannerOptions;
+import com.google.mlkit.vision.barcode.BarcodeScanning;
+import com.google.mlkit.vision.barcode.common.Barcode;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Caches the ML Kit barcode scanner clients by their barcode formats
+ * so that the detector does not have to be initialized for every scan.
+ *
+ * Every `acquire(...)` or successful `retain(...)` must be followed by a call to `release(...)`.
+ * The least recently used client is removed from the cache when the capacity is exceeded,
+ * but it is only closed once it is no longer in use, e.g. by a running scan session or a pending detection.
+ */
+public class BarcodeScannerClientCache {
+
+    public static final int DEFAULT_CAPACITY = 4;
+
+    private static class Entry {
+
+        @NonNull
+        final com.google.mlkit.vision.barcode.BarcodeScanner client;
+
+        int referenceCount = 0;
+        boolean isEvicted = false;
+
+        Entry(@NonNull com.google.mlkit.vision.barcode.BarcodeScanner client) {
+            this.client = client;
+        }
+    }
+
+    /**
+     * The cached entries in the order of their last access.
+     */
+    @NonNull
+    private final LinkedHashMap<String, Entry> entries;
+
+    /**
+     * All entries whose client is not closed yet, including the evicted entries that are still in use.
+     */
+    @NonNull
+    private final Map<com.google.mlkit.vision.barcode.BarcodeScanner, Entry> openEntries = new IdentityHashMap<>();
+
+    public BarcodeScannerClientCache(int capacity) {
+        this.entries = new LinkedHashMap<String, Entry>(capacity + 1, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                if (size() > capacity) {
+                    Entry entry = eldest.getValue();
+                    entry.isEvicted = true;
+                    closeIfUnused(entry);
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Returns the client for the barcode formats and marks it as in use.
+     */
+    @NonNull
+    public synchronized com.google.mlkit.vision.barcode.BarcodeScanner acquire(@NonNull int[] formats) {
+        String key = createKey(formats);
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            entry = new Entry(BarcodeScanning.getClient(buildBarcodeScannerOptions(formats)));
+            openEntries.put(entry.client, entry);
+            entries.put(key, entry);
+        }
+        entry.referenceCount++;
+        return entry.client;
+    }
+
+    /**
+     * Marks a client that was acquired before as in use once more.
+     *
+     * @return `false` if the client is already closed and must not be used.
+     */
+    public synchronized boolean retain(@NonNull com.google.mlkit.vision.barcode.BarcodeScanner client) {
+        Entry entry = openEntries.get(client);
+        if (entry == null) {
+            return false;
+        }
+        entry.referenceCount++;
+        return true;
+    }
+
+    public synchronized void release(@NonNull com.google.mlkit.vision.barcode.BarcodeScanner client) {
+        Entry entry = openEntries.get(client);
+        if (entry == null) {
+            return;
+        }
+        entry.referenceCount--;
+        closeIfUnused(entry);
+    }
+
+    /**
+     * Closes all clients, including the clients that are still in use.
+     */
+    public synchronized void close() {
+        for (Entry entry : openEntries.values()) {
+            entry.client.close();
+        }
+        openEntries.clear();
+        entries.clear();
+    }
+
+    @NonNull
+    static String createKey(@NonNull int[] formats) {
+        if (formats.length == 0) {
+            formats = new int[] { Barcode.FORMAT_ALL_FORMATS };
+        }
+        int[] sortedFormats = formats.clone();
+        Arrays.sort(sortedFormats);
+        return Arrays.toString(sortedFormats);
+    }
+
+    private void closeIfUnused(@NonNull Entry entry) {
+        if (entry.isEvicted && entry.referenceCount <= 0) {
+            openEntries.remove(entry.client);
+            entry.client.close();
+        }
+    }
+
+    @NonNull
+    private static BarcodeScannerOptions buildBarcodeScannerOptions(@NonNull int[] formats) {
+        if (formats.length == 0) {
+            formats = new int[] { Barcode.FORMAT_ALL_FORMATS };
+        }
+        return new BarcodeScannerOptions.Builder().setBarcodeFormats(formats[0], formats).build();
+    }
+}
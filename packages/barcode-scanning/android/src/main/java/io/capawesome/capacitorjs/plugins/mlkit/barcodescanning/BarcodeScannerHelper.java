@@ -4,7 +4,10 @@
 package io.capawesome.capacitorjs.plugins.mlkit.barcodescanning;
 
 import android.graphics.Point;
+import android.graphics.Rect;
+import android.util.Base64;
 import android.util.DisplayMetrics;
+import android.util.Range;
 import android.util.Size;
 import android.view.Display;
 import androidx.annotation.NonNull;
@@ -12,66 +15,88 @@ import androidx.annotation.Nullable;
 import com.getcapacitor.JSArray;
 import com.getcapacitor.JSObject;
 import com.google.mlkit.vision.barcode.common.Barcode;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import org.json.JSONArray;
 import org.json.JSONException;
 
 public class BarcodeScannerHelper {
 
     public static JSObject createBarcodeResultForBarcode(@NonNull Barcode barcode, @Nullable Point imageSize, @Nullable Point screenSize) {
-        Point[] cornerPoints = barcode.getCornerPoints();
-        JSArray cornerPointsResult = new JSArray();
-        if (cornerPoints != null && imageSize != null && screenSize != null) {
-            Point[] normalizedCornerPoints = normalizeCornerPoints(cornerPoints, imageSize, screenSize);
-            for (int i = 0; i < normalizedCornerPoints.length; i++) {
-                JSArray cornerPointResult = new JSArray();
-                cornerPointResult.put(normalizedCornerPoints[i].x);
-                cornerPointResult.put(normalizedCornerPoints[i].y);
-                cornerPointsResult.put(cornerPointResult);
-            }
-        } else if (cornerPoints != null && screenSize == null) {
-            for (Point cornerPoint : cornerPoints) {
-                JSArray cornerPointResult = new JSArray();
-                cornerPointResult.put(cornerPoint.x);
-                cornerPointResult.put(cornerPoint.y);
-                cornerPointsResult.put(cornerPointResult);
-            }
+        CornerPointsTransform cornerPointsTransform = null;
+        if (imageSize != null && screenSize != null) {
+            cornerPointsTransform = CornerPointsTransform.createForScreen(imageSize, screenSize);
         }
+        return createBarcodeResultForBarcode(barcode, cornerPointsTransform, null, null);
+    }
 
+    /**
+     * @param cornerPointsTransform The transform of the corner points or `null` to keep the coordinates of the image.
+     * @param cornerPointsOffset The offset to add to the corner points if the barcode was detected in a cropped image.
+     * @param fields The properties to include in the result or `null` to include all properties except `bytesBase64`.
+     */
+    public static JSObject createBarcodeResultForBarcode(
+        @NonNull Barcode barcode,
+        @Nullable CornerPointsTransform cornerPointsTransform,
+        @Nullable Point cornerPointsOffset,
+        @Nullable Set<String> fields
+    ) {
         JSObject result = new JSObject();
-        result.put("bytes", convertByteArrayToJsonArray(barcode.getRawBytes()));
-        if (cornerPoints != null) {
-            result.put("cornerPoints", cornerPointsResult);
+        if (isFieldIncluded(fields, "bytes")) {
+            result.put("bytes", convertByteArrayToJsonArray(barcode.getRawBytes()));
+        }
+        if (fields != null && fields.contains("bytesBase64") && barcode.getRawBytes() != null) {
+            result.put("bytesBase64", Base64.encodeToString(barcode.getRawBytes(), Base64.NO_WRAP));
         }
-        if (barcode.getCalendarEvent() != null) {
+        Point[] cornerPoints = barcode.getCornerPoints();
+        if (cornerPoints != null && isFieldIncluded(fields, "cornerPoints")) {
+            if (cornerPointsTransform != null) {
+                result.put("cornerPoints", cornerPointsTransform.createCornerPointsResult(cornerPoints, cornerPointsOffset));
+            } else {
+                if (cornerPointsOffset != null) {
+                    cornerPoints = offsetCornerPoints(cornerPoints, cornerPointsOffset);
+                }
+                result.put("cornerPoints", createCornerPointsResult(cornerPoints, null, null));
+            }
+        }
+        if (barcode.getCalendarEvent() != null && isFieldIncluded(fields, "calendarEvent")) {
             result.put("calendarEvent", extractCalendarEventProperties(barcode.getCalendarEvent()));
         }
-        if (barcode.getContactInfo() != null) {
+        if (barcode.getContactInfo() != null && isFieldIncluded(fields, "contactInfo")) {
             result.put("contactInfo", extractContactInfoProperties(barcode.getContactInfo()));
         }
-        result.put("displayValue", barcode.getDisplayValue());
-        if (barcode.getDriverLicense() != null) {
+        if (isFieldIncluded(fields, "displayValue")) {
+            result.put("displayValue", barcode.getDisplayValue());
+        }
+        if (barcode.getDriverLicense() != null && isFieldIncluded(fields, "driverLicense")) {
             result.put("driverLicense", extractDriverLicenseProperties(barcode.getDriverLicense()));
         }
-        if (barcode.getEmail() != null) {
+        if (barcode.getEmail() != null && isFieldIncluded(fields, "email")) {
             result.put("email", extractEmailProperties(barcode.getEmail()));
         }
-        result.put("format", convertBarcodeScannerFormatToString(barcode.getFormat()));
-        if (barcode.getGeoPoint() != null) {
+        if (isFieldIncluded(fields, "format")) {
+            result.put("format", convertBarcodeScannerFormatToString(barcode.getFormat()));
+        }
+        if (barcode.getGeoPoint() != null && isFieldIncluded(fields, "geoPoint")) {
             result.put("geoPoint", extractGeoPointProperties(barcode.getGeoPoint()));
         }
-        if (barcode.getPhone() != null) {
+        if (barcode.getPhone() != null && isFieldIncluded(fields, "phone")) {
             result.put("phone", extractPhoneProperties(barcode.getPhone()));
         }
-        result.put("rawValue", barcode.getRawValue());
-        if (barcode.getSms() != null) {
+        if (isFieldIncluded(fields, "rawValue")) {
+            result.put("rawValue", barcode.getRawValue());
+        }
+        if (barcode.getSms() != null && isFieldIncluded(fields, "sms")) {
             result.put("sms", extractSmsProperties(barcode.getSms()));
         }
-        if (barcode.getUrl() != null) {
+        if (barcode.getUrl() != null && isFieldIncluded(fields, "urlBookmark")) {
             result.put("urlBookmark", extractUrlBookmark(barcode.getUrl()));
         }
-        result.put("valueType", convertBarcodeValueTypeToString(barcode.getValueType()));
-        if (barcode.getWifi() != null) {
+        if (isFieldIncluded(fields, "valueType")) {
+            result.put("valueType", convertBarcodeValueTypeToString(barcode.getValueType()));
+        }
+        if (barcode.getWifi() != null && isFieldIncluded(fields, "wifi")) {
             result.put("wifi", extractWifiProperties(barcode.getWifi()));
         }
         return result;
@@ -189,6 +214,36 @@ public class BarcodeScannerHelper {
         }
     }
 
+    @Nullable
+    public static Set<String> convertJSArrayToFields(@Nullable JSArray array) throws JSONException {
+        if (array == null) {
+            return null;
+        }
+        List<String> fields = array.toList();
+        return new HashSet<>(fields);
+    }
+
+    private static boolean isFieldIncluded(@Nullable Set<String> fields, @NonNull String field) {
+        return fields == null || fields.contains(field);
+    }
+
+    public static JSArray createCornerPointsResult(@NonNull Point[] cornerPoints, @Nullable Point imageSize, @Nullable Point screenSize) {
+        if (imageSize != null && screenSize != null) {
+            return CornerPointsTransform.createForScreen(imageSize, screenSize).createCornerPointsResult(cornerPoints, null);
+        }
+        JSArray cornerPointsResult = new JSArray();
+        if (screenSize != null) {
+            return cornerPointsResult;
+        }
+        for (Point cornerPoint : cornerPoints) {
+            JSArray cornerPointResult = new JSArray();
+            cornerPointResult.put(cornerPoint.x);
+            cornerPointResult.put(cornerPoint.y);
+            cornerPointsResult.put(cornerPointResult);
+        }
+        return cornerPointsResult;
+    }
+
     @Nullable
     private static JSONArray convertByteArrayToJsonArray(@Nullable byte[] bytes) {
         if (bytes == null) {
@@ -365,33 +420,72 @@ public class BarcodeScannerHelper {
         return result;
     }
 
-    private static Point[] normalizeCornerPoints(@NonNull Point[] cornerPoints, @NonNull Point imageSize, @NonNull Point screenSize) {
-        // Log corner points
-        // Logger.debug("Corner points: " + cornerPoints[0] + ", " + cornerPoints[1] + ", " + cornerPoints[2] + ", " + cornerPoints[3]);
-        double screenWidth = screenSize.x;
-        double screenHeight = screenSize.y;
-        double imageWidth = imageSize.x;
-        double imageHeight = imageSize.y;
-        // Swap the image dimensions if the image is in landscape mode
-        if (screenWidth > screenHeight) {
-            imageWidth = imageSize.y;
-            imageHeight = imageSize.x;
-        }
-        // Calculate the scale of the image
-        double scale = Math.max(screenHeight / imageWidth, screenWidth / imageHeight);
-        // Calculate the invisible area of the image
-        double invisibleWidth = imageHeight * scale - screenWidth;
-        double invisibleHeight = imageWidth * scale - screenHeight;
-        Point[] normalizedCornerPoints = new Point[cornerPoints.length];
+    private static Point[] offsetCornerPoints(@NonNull Point[] cornerPoints, @NonNull Point offset) {
+        Point[] offsetCornerPoints = new Point[cornerPoints.length];
         for (int i = 0; i < cornerPoints.length; i++) {
-            // Scale the points and move them to the center of the screen
-            int x = (int) ((cornerPoints[i].x * scale) - (invisibleWidth / 2));
-            int y = (int) ((cornerPoints[i].y * scale) - (invisibleHeight / 2));
-            normalizedCornerPoints[i] = new Point(x, y);
-        }
-        // Log normalized corner points
-        // Logger.debug("Normalized corner points: " + normalizedCornerPoints[0] + ", " + normalizedCornerPoints[1] + ", " + normalizedCornerPoints[2] + ", " + normalizedCornerPoints[3]);
-        return normalizedCornerPoints;
+            offsetCornerPoints[i] = new Point(cornerPoints[i].x + offset.x, cornerPoints[i].y + offset.y);
+        }
+        return offsetCornerPoints;
+    }
+
+    /**
+     * Converts a rectangle in the coordinates of the rotated image into the coordinates of the unrotated image buffer.
+     *
+     * @param imageSize The size of the unrotated image buffer.
+     * @param rotationDegrees The clockwise rotation that must be applied to the image buffer to make it upright.
+     */
+    @NonNull
+    public static Rect rotateImageRectToBufferRect(@NonNull Rect imageRect, @NonNull Point imageSize, int rotationDegrees) {
+        int width = imageSize.x;
+        int height = imageSize.y;
+        switch (rotationDegrees) {
+            case 90:
+                return new Rect(imageRect.top, height - imageRect.right, imageRect.bottom, height - imageRect.left);
+            case 180:
+                return new Rect(width - imageRect.right, height - imageRect.bottom, width - imageRect.left, height - imageRect.top);
+            case 270:
+                return new Rect(width - imageRect.bottom, imageRect.left, width - imageRect.top, imageRect.right);
+            default:
+                return new Rect(imageRect);
+        }
+    }
+
+    @Nullable
+    public static Rect convertJSObjectToRect(@Nullable JSObject object) {
+        if (object == null) {
+            return null;
+        }
+        int left = object.getInteger("left", 0);
+        int top = object.getInteger("top", 0);
+        int width = object.getInteger("width", 0);
+        int height = object.getInteger("height", 0);
+        return new Rect(left, top, left + width, top + height);
+    }
+
+    @Nullable
+    public static Range<Integer> convertJSObjectToFrameRateRange(@Nullable JSObject object) throws Exception {
+        if (object == null) {
+            return null;
+        }
+        int min = object.getInteger("min", 0);
+        int max = object.getInteger("max", 0);
+        if (min <= 0 || max < min) {
+            throw new Exception(BarcodeScannerPlugin.ERROR_TARGET_FRAME_RATE_RANGE_INVALID);
+        }
+        return new Range<>(min, max);
+    }
+
+    @Nullable
+    public static ScanEventQueue.Policy convertStringToEventQueuePolicy(@Nullable String policy) {
+        if (policy == null) {
+            return null;
+        }
+        return switch (policy) {
+            case "DROP_OLDEST" -> ScanEventQueue.Policy.DROP_OLDEST;
+            case "COALESCE" -> ScanEventQueue.Policy.COALESCE;
+            case "LATEST_ONLY" -> ScanEventQueue.Policy.LATEST_ONLY;
+            default -> null;
+        };
     }
 
     public static Size convertIntegerToResolution(Integer resolution) {
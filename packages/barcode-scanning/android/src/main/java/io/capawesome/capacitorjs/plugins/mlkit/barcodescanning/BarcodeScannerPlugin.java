@@ -4,7 +4,10 @@
 package io.capawesome.capacitorjs.plugins.mlkit.barcodescanning;
 
 import android.Manifest;
+import android.content.res.Configuration;
 import android.graphics.Point;
+import android.net.Uri;
+import android.text.TextUtils;
 import android.util.DisplayMetrics;
 import android.util.Size;
 import androidx.activity.result.ActivityResult;
@@ -22,11 +25,31 @@ import com.getcapacitor.annotation.CapacitorPlugin;
 import com.getcapacitor.annotation.Permission;
 import com.getcapacitor.annotation.PermissionCallback;
 import com.google.mlkit.vision.barcode.common.Barcode;
+import io.capawesome.capacitorjs.plugins.mlkit.barcodescanning.classes.events.BarcodeTrackEvent;
+import io.capawesome.capacitorjs.plugins.mlkit.barcodescanning.classes.events.ImageBarcodesReadEvent;
+import io.capawesome.capacitorjs.plugins.mlkit.barcodescanning.classes.events.PdfPageBarcodesReadEvent;
+import io.capawesome.capacitorjs.plugins.mlkit.barcodescanning.classes.events.VideoBarcodesReadEvent;
+import io.capawesome.capacitorjs.plugins.mlkit.barcodescanning.classes.options.PrepareScanOptions;
+import io.capawesome.capacitorjs.plugins.mlkit.barcodescanning.classes.options.ReadBarcodesFromImagesOptions;
+import io.capawesome.capacitorjs.plugins.mlkit.barcodescanning.classes.options.ReadBarcodesFromPdfOptions;
+import io.capawesome.capacitorjs.plugins.mlkit.barcodescanning.classes.options.ReadBarcodesFromVideoOptions;
 import io.capawesome.capacitorjs.plugins.mlkit.barcodescanning.classes.options.SetZoomRatioOptions;
 import io.capawesome.capacitorjs.plugins.mlkit.barcodescanning.classes.results.GetMaxZoomRatioResult;
 import io.capawesome.capacitorjs.plugins.mlkit.barcodescanning.classes.results.GetMinZoomRatioResult;
+import io.capawesome.capacitorjs.plugins.mlkit.barcodescanning.classes.results.GetScanMetricsResult;
 import io.capawesome.capacitorjs.plugins.mlkit.barcodescanning.classes.results.GetZoomRatioResult;
+import io.capawesome.capacitorjs.plugins.mlkit.barcodescanning.classes.results.ReadBarcodesFromImageResult;
+import io.capawesome.capacitorjs.plugins.mlkit.barcodescanning.classes.results.ReadBarcodesFromImagesResult;
+import io.capawesome.capacitorjs.plugins.mlkit.barcodescanning.classes.results.ReadBarcodesFromPdfResult;
+import io.capawesome.capacitorjs.plugins.mlkit.barcodescanning.classes.results.ReadBarcodesFromVideoResult;
+import io.capawesome.capacitorjs.plugins.mlkit.barcodescanning.interfaces.EmptyResultCallback;
+import io.capawesome.capacitorjs.plugins.mlkit.barcodescanning.interfaces.NonEmptyResultCallback;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 @CapacitorPlugin(
     name = "BarcodeScanner",
@@ -43,11 +66,31 @@ public class BarcodeScannerPlugin extends Plugin {
     public static final String BARCODES_SCANNED_EVENT = "barcodesScanned";
     public static final String SCAN_ERROR_EVENT = "scanError";
     public static final String GOOGLE_BARCODE_SCANNER_MODULE_INSTALL_PROGRESS_EVENT = "googleBarcodeScannerModuleInstallProgress";
+    public static final String IMAGE_BARCODES_READ_EVENT = "imageBarcodesRead";
+    public static final String PDF_PAGE_BARCODES_READ_EVENT = "pdfPageBarcodesRead";
+    public static final String VIDEO_BARCODES_READ_EVENT = "videoBarcodesRead";
+    public static final String BARCODE_ENTERED_EVENT = "barcodeEntered";
+    public static final String BARCODE_MOVED_EVENT = "barcodeMoved";
+    public static final String BARCODE_LEFT_EVENT = "barcodeLeft";
+    public static final String SCAN_METRICS_EVENT = "scanMetrics";
     public static final String ERROR_SCAN_CANCELED = "scan canceled.";
     public static final String ERROR_PATH_MISSING = "path must be provided.";
+    public static final String ERROR_PATHS_MISSING = "paths must be provided.";
     public static final String ERROR_LOAD_IMAGE_FAILED = "The image could not be loaded.";
+    public static final String ERROR_LOAD_PDF_FAILED = "The PDF document could not be loaded.";
+    public static final String ERROR_LOAD_VIDEO_FAILED = "The video could not be loaded.";
+    public static final String ERROR_LOAD_RECORDING_FAILED = "The frame recording could not be loaded.";
+    public static final String ERROR_CREATE_RECORDING_FAILED = "The frame recording could not be created.";
     public static final String ERROR_ZOOM_RATIO_MISSING = "zoomRatio must be provided.";
+    public static final String ERROR_TARGET_FRAME_RATE_RANGE_INVALID =
+        "targetFrameRateRange.min must be greater than 0 and not greater than targetFrameRateRange.max.";
+    public static final String ERROR_ANALYSIS_THREAD_COUNT_INVALID =
+        "analysisThreadCount must be between 1 and " + ScanSettings.MAX_ANALYSIS_THREAD_COUNT + ".";
+    public static final String ERROR_TILE_SIZE_INVALID = "tileSize must be at least " + TiledImageReader.MIN_TILE_SIZE + ".";
     public static final String ERROR_NO_ACTIVE_SCAN_SESSION = "There is no active scan session.";
+    public static final String ERROR_NO_SCAN_SESSION_STARTED = "No scan session has been started yet.";
+    public static final String ERROR_SCAN_SESSION_ACTIVE = "A scan session is already active.";
+    public static final String ERROR_FRAME_REPLAY_ACTIVE = "A frame replay is running.";
     public static final String ERROR_GOOGLE_BARCODE_SCANNER_MODULE_NOT_AVAILABLE =
         "The Google Barcode Scanner Module is not available. You must install it first using the installGoogleBarcodeScannerModule method.";
     public static final String ERROR_GOOGLE_BARCODE_SCANNER_MODULE_ALREADY_INSTALLED =
@@ -56,6 +99,9 @@ public class BarcodeScannerPlugin extends Plugin {
 
     private BarcodeScanner implementation;
 
+    @Nullable
+    private volatile Point screenSize;
+
     @Override
     public void load() {
         try {
@@ -68,16 +114,9 @@ public class BarcodeScannerPlugin extends Plugin {
     @PluginMethod
     public void startScan(PluginCall call) {
         try {
-            List<String> formatsOption = call.getArray("formats", new JSArray()).toList();
-            int[] formats = BarcodeScannerHelper.convertStringsToBarcodeScannerFormats(formatsOption.toArray(new String[0]));
+            ScanSettings scanSettings = createScanSettings(call);
 
-            String lensFacingOption = call.getString("lensFacing", "BACK");
-            int lensFacing = lensFacingOption.equals("FRONT") ? CameraSelector.LENS_FACING_FRONT : CameraSelector.LENS_FACING_BACK;
-
-            ScanSettings scanSettings = new ScanSettings();
-            scanSettings.formats = formats;
-            scanSettings.lensFacing = lensFacing;
-            scanSettings.resolution = BarcodeScannerHelper.convertIntegerToResolution(call.getInt("resolution", 1));
+            screenSize = null;
 
             boolean granted = implementation.requestCameraPermissionIfNotDetermined(call);
             if (!granted) {
@@ -107,6 +146,43 @@ public class BarcodeScannerPlugin extends Plugin {
         }
     }
 
+    @PluginMethod
+    public void replayFrames(PluginCall call) {
+        try {
+            String path = call.getString("path");
+            if (path == null) {
+                call.reject(ERROR_PATH_MISSING);
+                return;
+            }
+            ScanSettings scanSettings = createScanSettings(call);
+            // Do not record the replayed frames
+            scanSettings.frameRecordingPath = null;
+            FrameReplaySource source = createFrameReplaySource(path);
+
+            getActivity().runOnUiThread(() -> {
+                implementation.replayFrames(
+                    source,
+                    scanSettings,
+                    new NonEmptyResultCallback<GetScanMetricsResult>() {
+                        @Override
+                        public void success(@NonNull GetScanMetricsResult result) {
+                            call.resolve(result.toJSObject());
+                        }
+
+                        @Override
+                        public void error(Exception exception) {
+                            Logger.error(TAG, exception.getMessage(), exception);
+                            call.reject(exception.getMessage());
+                        }
+                    }
+                );
+            });
+        } catch (Exception exception) {
+            Logger.error(TAG, exception.getMessage(), exception);
+            call.reject(exception.getMessage());
+        }
+    }
+
     @PluginMethod
     public void stopScan(PluginCall call) {
         try {
@@ -120,6 +196,72 @@ public class BarcodeScannerPlugin extends Plugin {
         }
     }
 
+    @PluginMethod
+    public void prepareScan(PluginCall call) {
+        try {
+            PrepareScanOptions options = new PrepareScanOptions(call);
+
+            getActivity().runOnUiThread(() -> {
+                implementation.prepareScan(
+                    options,
+                    new EmptyResultCallback() {
+                        @Override
+                        public void success() {
+                            call.resolve();
+                        }
+
+                        @Override
+                        public void error(Exception exception) {
+                            Logger.error(TAG, exception.getMessage(), exception);
+                            call.reject(exception.getMessage());
+                        }
+                    }
+                );
+            });
+        } catch (Exception exception) {
+            Logger.error(TAG, exception.getMessage(), exception);
+            call.reject(exception.getMessage());
+        }
+    }
+
+    @PluginMethod
+    public void pauseScan(PluginCall call) {
+        try {
+            boolean isCameraActive = implementation.isCameraActive();
+            if (!isCameraActive) {
+                call.reject(ERROR_NO_ACTIVE_SCAN_SESSION);
+                return;
+            }
+
+            getActivity().runOnUiThread(() -> {
+                implementation.pauseScan();
+                call.resolve();
+            });
+        } catch (Exception exception) {
+            Logger.error(TAG, exception.getMessage(), exception);
+            call.reject(exception.getMessage());
+        }
+    }
+
+    @PluginMethod
+    public void resumeScan(PluginCall call) {
+        try {
+            boolean isCameraActive = implementation.isCameraActive();
+            if (!isCameraActive) {
+                call.reject(ERROR_NO_ACTIVE_SCAN_SESSION);
+                return;
+            }
+
+            getActivity().runOnUiThread(() -> {
+                implementation.resumeScan();
+                call.resolve();
+            });
+        } catch (Exception exception) {
+            Logger.error(TAG, exception.getMessage(), exception);
+            call.reject(exception.getMessage());
+        }
+    }
+
     @PluginMethod
     public void readBarcodesFromImage(PluginCall call) {
         try {
@@ -134,6 +276,33 @@ public class BarcodeScannerPlugin extends Plugin {
 
             ScanSettings scanSettings = new ScanSettings();
             scanSettings.formats = formats;
+            scanSettings.tiling = call.getBoolean("tiling", false);
+            int tileSize = call.getInt("tileSize", TiledImageReader.DEFAULT_TILE_SIZE);
+            if (tileSize < TiledImageReader.MIN_TILE_SIZE) {
+                call.reject(ERROR_TILE_SIZE_INVALID);
+                return;
+            }
+            scanSettings.tileSize = tileSize;
+
+            if (scanSettings.tiling) {
+                implementation.readBarcodesFromImageWithTiling(
+                    path,
+                    scanSettings,
+                    new NonEmptyResultCallback<ReadBarcodesFromImageResult>() {
+                        @Override
+                        public void success(@NonNull ReadBarcodesFromImageResult result) {
+                            call.resolve(result.toJSObject());
+                        }
+
+                        @Override
+                        public void error(Exception exception) {
+                            Logger.error(TAG, "readBarcodeFromImage failed.", exception);
+                            call.reject(exception.getMessage());
+                        }
+                    }
+                );
+                return;
+            }
 
             implementation.readBarcodesFromImage(
                 path,
@@ -164,6 +333,84 @@ public class BarcodeScannerPlugin extends Plugin {
         }
     }
 
+    @PluginMethod
+    public void readBarcodesFromImages(PluginCall call) {
+        try {
+            ReadBarcodesFromImagesOptions options = new ReadBarcodesFromImagesOptions(call);
+
+            implementation.readBarcodesFromImages(
+                options,
+                new NonEmptyResultCallback<ReadBarcodesFromImagesResult>() {
+                    @Override
+                    public void success(@NonNull ReadBarcodesFromImagesResult result) {
+                        call.resolve(result.toJSObject());
+                    }
+
+                    @Override
+                    public void error(Exception exception) {
+                        Logger.error(TAG, exception.getMessage(), exception);
+                        call.reject(exception.getMessage());
+                    }
+                }
+            );
+        } catch (Exception exception) {
+            Logger.error(TAG, exception.getMessage(), exception);
+            call.reject(exception.getMessage());
+        }
+    }
+
+    @PluginMethod
+    public void readBarcodesFromPdf(PluginCall call) {
+        try {
+            ReadBarcodesFromPdfOptions options = new ReadBarcodesFromPdfOptions(call);
+
+            implementation.readBarcodesFromPdf(
+                options,
+                new NonEmptyResultCallback<ReadBarcodesFromPdfResult>() {
+                    @Override
+                    public void success(@NonNull ReadBarcodesFromPdfResult result) {
+                        call.resolve(result.toJSObject());
+                    }
+
+                    @Override
+                    public void error(Exception exception) {
+                        Logger.error(TAG, exception.getMessage(), exception);
+                        call.reject(exception.getMessage());
+                    }
+                }
+            );
+        } catch (Exception exception) {
+            Logger.error(TAG, exception.getMessage(), exception);
+            call.reject(exception.getMessage());
+        }
+    }
+
+    @PluginMethod
+    public void readBarcodesFromVideo(PluginCall call) {
+        try {
+            ReadBarcodesFromVideoOptions options = new ReadBarcodesFromVideoOptions(call);
+
+            implementation.readBarcodesFromVideo(
+                options,
+                new NonEmptyResultCallback<ReadBarcodesFromVideoResult>() {
+                    @Override
+                    public void success(@NonNull ReadBarcodesFromVideoResult result) {
+                        call.resolve(result.toJSObject());
+                    }
+
+                    @Override
+                    public void error(Exception exception) {
+                        Logger.error(TAG, exception.getMessage(), exception);
+                        call.reject(exception.getMessage());
+                    }
+                }
+            );
+        } catch (Exception exception) {
+            Logger.error(TAG, exception.getMessage(), exception);
+            call.reject(exception.getMessage());
+        }
+    }
+
     @PluginMethod
     public void scan(PluginCall call) {
         try {
@@ -317,6 +564,35 @@ public class BarcodeScannerPlugin extends Plugin {
         }
     }
 
+    @PluginMethod
+    public void getScanMetrics(PluginCall call) {
+        try {
+            GetScanMetricsResult result = implementation.getScanMetrics();
+            if (result == null) {
+                call.reject(ERROR_NO_SCAN_SESSION_STARTED);
+                return;
+            }
+            call.resolve(result.toJSObject());
+        } catch (Exception exception) {
+            Logger.error(TAG, exception.getMessage(), exception);
+            call.reject(exception.getMessage());
+        }
+    }
+
+    @PluginMethod
+    public void acknowledgeScanEvents(PluginCall call) {
+        try {
+            ScanEventQueue scanEventQueue = implementation.getScanEventQueue();
+            if (scanEventQueue != null) {
+                scanEventQueue.acknowledge();
+            }
+            call.resolve();
+        } catch (Exception exception) {
+            Logger.error(TAG, exception.getMessage(), exception);
+            call.reject(exception.getMessage());
+        }
+    }
+
     @PluginMethod
     public void getZoomRatio(PluginCall call) {
         try {
@@ -426,6 +702,19 @@ public class BarcodeScannerPlugin extends Plugin {
         }
     }
 
+    @Override
+    protected void handleOnConfigurationChanged(Configuration newConfig) {
+        super.handleOnConfigurationChanged(newConfig);
+        screenSize = null;
+    }
+
+    @Override
+    protected void handleOnDestroy() {
+        if (implementation != null) {
+            implementation.handleOnDestroy();
+        }
+    }
+
     @Override
     @PluginMethod
     public void requestPermissions(PluginCall call) {
@@ -462,31 +751,172 @@ public class BarcodeScannerPlugin extends Plugin {
         }
     }
 
-    public void notifyBarcodeScannedListener(Barcode barcode, Point imageSize) {
-        try {
-            Point screenSize = this.getScreenSize();
-            JSObject barcodeResult = BarcodeScannerHelper.createBarcodeResultForBarcode(barcode, imageSize, screenSize);
+    @NonNull
+    private ScanSettings createScanSettings(@NonNull PluginCall call) throws Exception {
+        List<String> formatsOption = call.getArray("formats", new JSArray()).toList();
+        int[] formats = BarcodeScannerHelper.convertStringsToBarcodeScannerFormats(formatsOption.toArray(new String[0]));
 
-            JSObject result = new JSObject();
-            result.put("barcode", barcodeResult);
-            notifyListeners(BARCODE_SCANNED_EVENT, result);
+        String lensFacingOption = call.getString("lensFacing", "BACK");
+        int lensFacing = lensFacingOption.equals("FRONT") ? CameraSelector.LENS_FACING_FRONT : CameraSelector.LENS_FACING_BACK;
+
+        ScanSettings scanSettings = new ScanSettings();
+        scanSettings.formats = formats;
+        scanSettings.lensFacing = lensFacing;
+        scanSettings.resolution = BarcodeScannerHelper.convertIntegerToResolution(call.getInt("resolution", 1));
+        Integer previewResolution = call.getInt("previewResolution");
+        if (previewResolution != null) {
+            scanSettings.previewResolution = BarcodeScannerHelper.convertIntegerToResolution(previewResolution);
+        }
+        scanSettings.targetFrameRateRange = BarcodeScannerHelper.convertJSObjectToFrameRateRange(call.getObject("targetFrameRateRange"));
+        scanSettings.analysisThreadCount = call.getInt("analysisThreadCount", 1);
+        if (scanSettings.analysisThreadCount < 1 || scanSettings.analysisThreadCount > ScanSettings.MAX_ANALYSIS_THREAD_COUNT) {
+            throw new Exception(ERROR_ANALYSIS_THREAD_COUNT_INVALID);
+        }
+        scanSettings.voteThreshold = call.getInt("voteThreshold", BarcodeVoteTracker.DEFAULT_THRESHOLD);
+        scanSettings.voteTimeout = call.getInt("voteTimeout", (int) BarcodeVoteTracker.DEFAULT_TIMEOUT);
+        scanSettings.regionOfInterest = BarcodeScannerHelper.convertJSObjectToRect(call.getObject("regionOfInterest"));
+        scanSettings.maxAnalysisFrameRate = call.getInt("maxAnalysisFrameRate", 0);
+        scanSettings.adaptiveAnalysisFrameRate = call.getBoolean("adaptiveAnalysisFrameRate", false);
+        scanSettings.fields = BarcodeScannerHelper.convertJSArrayToFields(call.getArray("fields"));
+        scanSettings.barcodeTracking = call.getBoolean("barcodeTracking", false);
+        scanSettings.barcodeMovedInterval = call.getInt("barcodeMovedInterval", (int) BarcodeTracker.DEFAULT_MOVED_INTERVAL);
+        scanSettings.barcodeLeftTimeout = call.getInt("barcodeLeftTimeout", (int) BarcodeTracker.DEFAULT_LEFT_TIMEOUT);
+        scanSettings.scanMetricsInterval = call.getInt("scanMetricsInterval", 0);
+        scanSettings.eventQueuePolicy = BarcodeScannerHelper.convertStringToEventQueuePolicy(call.getString("eventQueuePolicy"));
+        scanSettings.eventQueueCapacity = call.getInt("eventQueueCapacity", ScanEventQueue.DEFAULT_CAPACITY);
+        scanSettings.minFrameSharpness = call.getFloat("minFrameSharpness", 0f);
+        scanSettings.grayscaleInput = call.getBoolean("grayscaleInput", false);
+        scanSettings.adaptiveFormats = call.getBoolean("adaptiveFormats", false);
+        scanSettings.cornerPointsInCssPixels = call.getBoolean("cornerPointsInCssPixels", false);
+        scanSettings.frameRecordingPath = call.getString("frameRecordingPath");
+        scanSettings.frameRecordingMaxCount = call.getInt("frameRecordingMaxCount", ScanSettings.DEFAULT_FRAME_RECORDING_MAX_COUNT);
+        scanSettings.autoTorch = call.getBoolean("autoTorch", false);
+        scanSettings.autoExposureCompensation = call.getBoolean("autoExposureCompensation", false);
+        return scanSettings;
+    }
+
+    @NonNull
+    private FrameReplaySource createFrameReplaySource(@NonNull String path) throws Exception {
+        try {
+            InputStream inputStream = getContext().getContentResolver().openInputStream(Uri.parse(path));
+            if (inputStream == null) {
+                throw new IOException(ERROR_LOAD_RECORDING_FAILED);
+            }
+            return new FrameReplaySource(inputStream);
         } catch (Exception exception) {
-            Logger.error(TAG, exception.getMessage(), exception);
+            throw new Exception(ERROR_LOAD_RECORDING_FAILED);
         }
     }
 
-    public void notifyBarcodesScannedListener(Barcode[] barcodes, Point imageSize) {
+    /**
+     * Notifies the `barcodeScanned` listeners for each barcode and the `barcodesScanned` listeners once.
+     *
+     * The result of each barcode is only created once and shared by both events.
+     */
+    public void notifyBarcodesScannedListeners(
+        Barcode[] barcodes,
+        @Nullable CornerPointsTransform cornerPointsTransform,
+        @Nullable Point cornerPointsOffset,
+        @Nullable Set<String> fields
+    ) {
         try {
-            Point screenSize = this.getScreenSize();
+            boolean hasBarcodeScannedListeners = hasListeners(BARCODE_SCANNED_EVENT);
+            boolean hasBarcodesScannedListeners = hasListeners(BARCODES_SCANNED_EVENT);
+            if (!hasBarcodeScannedListeners && !hasBarcodesScannedListeners) {
+                return;
+            }
             JSArray barcodesResult = new JSArray();
             for (Barcode barcode : barcodes) {
-                JSObject barcodeResult = BarcodeScannerHelper.createBarcodeResultForBarcode(barcode, imageSize, screenSize);
+                JSObject barcodeResult = BarcodeScannerHelper.createBarcodeResultForBarcode(
+                    barcode,
+                    cornerPointsTransform,
+                    cornerPointsOffset,
+                    fields
+                );
+                if (hasBarcodeScannedListeners) {
+                    JSObject result = new JSObject();
+                    result.put("barcode", barcodeResult);
+                    notifyScanListeners(BARCODE_SCANNED_EVENT, barcode.getRawValue(), result, true);
+                }
                 barcodesResult.put(barcodeResult);
             }
 
-            JSObject result = new JSObject();
-            result.put("barcodes", barcodesResult);
-            notifyListeners(BARCODES_SCANNED_EVENT, result);
+            if (hasBarcodesScannedListeners) {
+                JSObject result = new JSObject();
+                result.put("barcodes", barcodesResult);
+                notifyScanListeners(BARCODES_SCANNED_EVENT, createCoalesceKey(barcodes), result, true);
+            }
+        } catch (Exception exception) {
+            Logger.error(TAG, exception.getMessage(), exception);
+        }
+    }
+
+    public void notifyBarcodeTrackListeners(
+        BarcodeTracker.Update update,
+        @Nullable CornerPointsTransform cornerPointsTransform,
+        @Nullable Point cornerPointsOffset,
+        @Nullable Set<String> fields
+    ) {
+        try {
+            if (hasListeners(BARCODE_ENTERED_EVENT)) {
+                for (BarcodeTracker.Track track : update.entered) {
+                    JSObject barcodeResult = BarcodeScannerHelper.createBarcodeResultForBarcode(
+                        track.getBarcode(),
+                        cornerPointsTransform,
+                        cornerPointsOffset,
+                        fields
+                    );
+                    notifyTrackListeners(
+                        BARCODE_ENTERED_EVENT,
+                        track,
+                        new BarcodeTrackEvent(track.getId(), barcodeResult).toJSObject(),
+                        ScanEventQueue.SequenceStep.START
+                    );
+                }
+            }
+            if (hasListeners(BARCODE_MOVED_EVENT)) {
+                for (BarcodeTracker.Track track : update.moved) {
+                    JSObject barcodeResult = BarcodeScannerHelper.createBarcodeResultForBarcode(
+                        track.getBarcode(),
+                        cornerPointsTransform,
+                        cornerPointsOffset,
+                        fields
+                    );
+                    notifyTrackListeners(
+                        BARCODE_MOVED_EVENT,
+                        track,
+                        new BarcodeTrackEvent(track.getId(), barcodeResult).toJSObject(),
+                        ScanEventQueue.SequenceStep.UPDATE
+                    );
+                }
+            }
+            for (BarcodeTracker.Track track : update.left) {
+                notifyTrackListeners(
+                    BARCODE_LEFT_EVENT,
+                    track,
+                    new BarcodeTrackEvent(track.getId(), null).toJSObject(),
+                    ScanEventQueue.SequenceStep.END
+                );
+            }
+        } catch (Exception exception) {
+            Logger.error(TAG, exception.getMessage(), exception);
+        }
+    }
+
+    /**
+     * Delivers an event of the scan event queue.
+     */
+    public void notifyQueuedScanEventListeners(@NonNull String eventName, @NonNull JSObject data) {
+        try {
+            notifyListeners(eventName, data);
+        } catch (Exception exception) {
+            Logger.error(TAG, exception.getMessage(), exception);
+        }
+    }
+
+    public void notifyScanMetricsListener(@NonNull GetScanMetricsResult result) {
+        try {
+            notifyListeners(SCAN_METRICS_EVENT, result.toJSObject());
         } catch (Exception exception) {
             Logger.error(TAG, exception.getMessage(), exception);
         }
@@ -517,13 +947,87 @@ public class BarcodeScannerPlugin extends Plugin {
         }
     }
 
+    public void notifyImageBarcodesReadListener(@NonNull ImageBarcodesReadEvent event) {
+        try {
+            notifyListeners(IMAGE_BARCODES_READ_EVENT, event.toJSObject());
+        } catch (Exception exception) {
+            Logger.error(TAG, exception.getMessage(), exception);
+        }
+    }
+
+    public void notifyPdfPageBarcodesReadListener(@NonNull PdfPageBarcodesReadEvent event) {
+        try {
+            notifyListeners(PDF_PAGE_BARCODES_READ_EVENT, event.toJSObject());
+        } catch (Exception exception) {
+            Logger.error(TAG, exception.getMessage(), exception);
+        }
+    }
+
+    public void notifyVideoBarcodesReadListener(@NonNull VideoBarcodesReadEvent event) {
+        try {
+            notifyListeners(VIDEO_BARCODES_READ_EVENT, event.toJSObject());
+        } catch (Exception exception) {
+            Logger.error(TAG, exception.getMessage(), exception);
+        }
+    }
+
+    /**
+     * Passes the scan event to the scan event queue or notifies the listeners directly if there is no queue.
+     *
+     * @param droppable Whether or not the queue may drop the event.
+     */
+    private void notifyScanListeners(@NonNull String eventName, @Nullable String key, @NonNull JSObject data, boolean droppable) {
+        ScanEventQueue scanEventQueue = implementation.getScanEventQueue();
+        if (scanEventQueue == null) {
+            notifyListeners(eventName, data);
+        } else {
+            scanEventQueue.enqueue(eventName, key, data, droppable);
+        }
+    }
+
+    /**
+     * Same as `notifyScanListeners(...)` for the events of a track.
+     */
+    private void notifyTrackListeners(
+        @NonNull String eventName,
+        @NonNull BarcodeTracker.Track track,
+        @NonNull JSObject data,
+        @NonNull ScanEventQueue.SequenceStep step
+    ) {
+        ScanEventQueue scanEventQueue = implementation.getScanEventQueue();
+        if (scanEventQueue == null) {
+            notifyListeners(eventName, data);
+        } else {
+            scanEventQueue.enqueueSequenceEvent(eventName, String.valueOf(track.getId()), data, step);
+        }
+    }
+
+    /**
+     * Returns a key that is equal for two frames with the same barcodes.
+     */
+    @NonNull
+    private static String createCoalesceKey(@NonNull Barcode[] barcodes) {
+        List<String> rawValues = new ArrayList<>();
+        for (Barcode barcode : barcodes) {
+            rawValues.add(String.valueOf(barcode.getRawValue()));
+        }
+        Collections.sort(rawValues);
+        return TextUtils.join("\n", rawValues);
+    }
+
     /**
      * Returns the display size without navigation bar height and status bar height.
+     *
+     * The size is cached until the configuration changes.
      */
-    private Point getScreenSize() {
-        DisplayMetrics displayMetrics = new DisplayMetrics();
-        getActivity().getWindowManager().getDefaultDisplay().getMetrics(displayMetrics);
-        Point displaySize = new Point(displayMetrics.widthPixels, displayMetrics.heightPixels);
-        return displaySize;
+    public Point getScreenSize() {
+        Point screenSize = this.screenSize;
+        if (screenSize == null) {
+            DisplayMetrics displayMetrics = new DisplayMetrics();
+            getActivity().getWindowManager().getDefaultDisplay().getMetrics(displayMetrics);
+            screenSize = new Point(displayMetrics.widthPixels, displayMetrics.heightPixels);
+            this.screenSize = screenSize;
+        }
+        return screenSize;
     }
 }
@@ -0,0 +1,210 @@
+package io.capawesome.capacitorjs.plugins.mlkit.barcodescanning;
+
+import android.graphics.Rect;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import com.google.mlkit.vision.barcode.common.Barcode;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Follows barcodes across consecutive frames and assigns a stable track ID to each of them.
+ *
+ * A barcode is assigned to an existing track with the same raw value. If several tracks have the same
+ * raw value, e.g. identical labels side by side, the track whose bounding box overlaps the most is chosen,
+ * and a barcode that overlaps none of them starts a new track. A track is removed if its barcode has not
+ * been seen for longer than the configured timeout.
+ */
+public class BarcodeTracker {
+
+    public static final long DEFAULT_MOVED_INTERVAL = 200;
+    public static final long DEFAULT_LEFT_TIMEOUT = 500;
+
+    /**
+     * The minimum number of analyzed frames in which a barcode must be missing before its track is removed.
+     */
+    private static final int LEFT_TIMEOUT_FRAME_COUNT = 3;
+
+    private final long movedInterval;
+    private final long leftTimeout;
+    private long frameInterval = 0;
+
+    @NonNull
+    private final List<Track> tracks = new ArrayList<>();
+
+    private int nextTrackId = 1;
+
+    /**
+     * @param movedInterval The minimum time in milliseconds between two moved updates of the same track.
+     * @param leftTimeout The time in milliseconds after which a track is removed if its barcode has not been seen again.
+     */
+    public BarcodeTracker(long movedInterval, long leftTimeout) {
+        this.movedInterval = movedInterval;
+        this.leftTimeout = leftTimeout;
+    }
+
+    /**
+     * Assigns the barcodes of a frame to the tracks.
+     *
+     * Must be called for every analyzed frame, even if no barcodes were found.
+     *
+     * @param timestamp The time of the frame in milliseconds.
+     */
+    @NonNull
+    public synchronized Update update(@NonNull List<Barcode> barcodes, long timestamp) {
+        Update update = new Update();
+        List<Track> unmatchedTracks = new ArrayList<>(tracks);
+        for (Barcode barcode : barcodes) {
+            String rawValue = barcode.getRawValue();
+            if (rawValue == null) {
+                continue;
+            }
+            Rect boundingBox = barcode.getBoundingBox();
+            Track track = findBestMatchingTrack(unmatchedTracks, rawValue, boundingBox);
+            if (track == null) {
+                track = new Track(nextTrackId++, rawValue, barcode, timestamp);
+                tracks.add(track);
+                update.entered.add(track);
+                update.seen.add(track);
+                continue;
+            }
+            unmatchedTracks.remove(track);
+            update.seen.add(track);
+            track.barcode = barcode;
+            track.boundingBox = boundingBox;
+            track.lastSeen = timestamp;
+            boolean hasMoved = boundingBox != null && !boundingBox.equals(track.lastMovedBoundingBox);
+            if (hasMoved && timestamp - track.lastMoved >= movedInterval) {
+                track.lastMovedBoundingBox = boundingBox;
+                track.lastMoved = timestamp;
+                update.moved.add(track);
+            }
+        }
+        // Slow analysis rates must not make the tracks leave and enter again on every frame
+        long leftTimeout = Math.max(this.leftTimeout, LEFT_TIMEOUT_FRAME_COUNT * frameInterval);
+        Iterator<Track> iterator = tracks.iterator();
+        while (iterator.hasNext()) {
+            Track track = iterator.next();
+            if (timestamp - track.lastSeen > leftTimeout) {
+                iterator.remove();
+                update.left.add(track);
+            }
+        }
+        return update;
+    }
+
+    /**
+     * @param frameInterval The current time in milliseconds between two analyzed frames.
+     */
+    public synchronized void setFrameInterval(long frameInterval) {
+        this.frameInterval = frameInterval;
+    }
+
+    public synchronized void clear() {
+        tracks.clear();
+    }
+
+    @Nullable
+    private static Track findBestMatchingTrack(@NonNull List<Track> tracks, @NonNull String rawValue, @Nullable Rect boundingBox) {
+        Track bestTrack = null;
+        float bestOverlap = -1;
+        int candidateCount = 0;
+        for (Track track : tracks) {
+            if (!track.rawValue.equals(rawValue)) {
+                continue;
+            }
+            candidateCount++;
+            float overlap = calculateIntersectionOverUnion(track.boundingBox, boundingBox);
+            if (overlap > bestOverlap) {
+                bestOverlap = overlap;
+                bestTrack = track;
+            }
+        }
+        // Only require an overlap if there are multiple barcodes with the same raw value
+        if (candidateCount > 1 && bestOverlap <= 0) {
+            return null;
+        }
+        return bestTrack;
+    }
+
+    private static float calculateIntersectionOverUnion(@Nullable Rect first, @Nullable Rect second) {
+        if (first == null || second == null) {
+            return 0;
+        }
+        Rect intersection = new Rect();
+        if (!intersection.setIntersect(first, second)) {
+            return 0;
+        }
+        long intersectionArea = (long) intersection.width() * intersection.height();
+        long unionArea = (long) first.width() * first.height() + (long) second.width() * second.height() - intersectionArea;
+        return unionArea <= 0 ? 0 : (float) intersectionArea / unionArea;
+    }
+
+    public static class Track {
+
+        private final int id;
+
+        @NonNull
+        private final String rawValue;
+
+        @NonNull
+        private Barcode barcode;
+
+        @Nullable
+        private Rect boundingBox;
+
+        /**
+         * The bounding box that was last reported to the listeners.
+         */
+        @Nullable
+        private Rect lastMovedBoundingBox;
+
+        private long lastSeen;
+        private long lastMoved;
+
+        private Track(int id, @NonNull String rawValue, @NonNull Barcode barcode, long timestamp) {
+            this.id = id;
+            this.rawValue = rawValue;
+            this.barcode = barcode;
+            this.boundingBox = barcode.getBoundingBox();
+            this.lastMovedBoundingBox = this.boundingBox;
+            this.lastSeen = timestamp;
+            this.lastMoved = timestamp;
+        }
+
+        public int getId() {
+            return id;
+        }
+
+        /**
+         * Returns the barcode of the frame in which the track was last updated.
+         */
+        @NonNull
+        public Barcode getBarcode() {
+            return barcode;
+        }
+    }
+
+    public static class Update {
+
+        @NonNull
+        public final List<Track> entered = new ArrayList<>();
+
+        @NonNull
+        public final List<Track> moved = new ArrayList<>();
+
+        @NonNull
+        public final List<Track> left = new ArrayList<>();
+
+        /**
+         * The tracks of all barcodes of the frame in the order of the barcodes, including the entered tracks.
+         */
+        @NonNull
+        public final List<Track> seen = new ArrayList<>();
+
+        public boolean isEmpty() {
+            return entered.isEmpty() && moved.isEmpty() && left.isEmpty();
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package io.capawesome.capacitorjs.plugins.mlkit.barcodescanning;
+
+import androidx.annotation.NonNull;
+import com.google.mlkit.vision.barcode.common.Barcode;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Counts how often a barcode has been seen in consecutive frames before it is reported.
+ *
+ * The number of tracked barcodes is bounded: the least recently seen barcode is evicted
+ * when the capacity is exceeded. Votes expire if a barcode has not been seen for longer
+ * than the configured timeout, but never before a few frames were missed, so slow analysis rates do not reset the votes.
+ */
+public class BarcodeVoteTracker {
+
+    public static final int DEFAULT_CAPACITY = 64;
+    public static final int DEFAULT_THRESHOLD = 10;
+    public static final long DEFAULT_TIMEOUT = 1000;
+
+    /**
+     * The minimum number of analyzed frames in which a barcode must be missing before its votes expire.
+     */
+    private static final int TIMEOUT_FRAME_COUNT = 3;
+
+    private final int threshold;
+    private final long timeout;
+    private long frameInterval = 0;
+
+    @NonNull
+    private final LinkedHashMap<String, Vote> votes;
+
+    /**
+     * @param capacity The maximum number of barcodes to track.
+     * @param threshold The number of votes a barcode needs before it is reported.
+     *                  A value of 0 or 1 reports every barcode instantly.
+     * @param timeout The time in milliseconds after which the votes of a barcode that has not been seen again are discarded.
+     *                A value of 0 disables the expiration.
+     */
+    public BarcodeVoteTracker(int capacity, int threshold, long timeout) {
+        this.threshold = threshold;
+        this.timeout = timeout;
+        this.votes = new LinkedHashMap<String, Vote>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Vote> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Adds a vote for the given raw value.
+     *
+     * @param timestamp The time of the frame in milliseconds.
+     * @return Whether or not the barcode has enough votes to be reported.
+     */
+    public synchronized boolean vote(@NonNull String rawValue, long timestamp) {
+        if (threshold <= 1) {
+            return true;
+        }
+        Vote vote = votes.get(rawValue);
+        if (vote == null) {
+            vote = new Vote();
+            votes.put(rawValue, vote);
+        } else if (timeout > 0 && timestamp - vote.lastSeen > Math.max(timeout, TIMEOUT_FRAME_COUNT * frameInterval)) {
+            vote.count = 0;
+        }
+        if (vote.count < threshold) {
+            vote.count++;
+        }
+        vote.lastSeen = timestamp;
+        return vote.count >= threshold;
+    }
+
+    /**
+     * Adds a vote for each barcode of a frame.
+     *
+     * @param timestamp The time of the frame in milliseconds.
+     * @return The barcodes that have enough votes to be reported.
+     */
+    @NonNull
+    public List<Barcode> vote(@NonNull List<Barcode> barcodes, long timestamp) {
+        if (barcodes.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<Barcode> barcodesWithEnoughVotes = new ArrayList<>();
+        for (Barcode barcode : barcodes) {
+            String rawValue = barcode.getRawValue();
+            if (rawValue == null || vote(rawValue, timestamp)) {
+                // Do not filter out barcodes without raw value.
+                barcodesWithEnoughVotes.add(barcode);
+            }
+        }
+        return barcodesWithEnoughVotes;
+    }
+
+    /**
+     * @param frameInterval The current time in milliseconds between two analyzed frames.
+     */
+    public synchronized void setFrameInterval(long frameInterval) {
+        this.frameInterval = frameInterval;
+    }
+
+    public synchronized void clear() {
+        votes.clear();
+    }
+
+    private static class Vote {
+
+        private int count;
+        private long lastSeen;
+    }
+}
@@ -0,0 +1,65 @@
+package io.capawesome.capacitorjs.plugins.mlkit.barcodescanning;
+
+import androidx.annotation.NonNull;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+
+/**
+ * Recycles direct byte buffers of the same size so that converting the camera frames does not allocate.
+ *
+ * Buffers of a different size are discarded, e.g. when the resolution or the region of interest changes.
+ */
+public class ByteBufferPool {
+
+    /**
+     * The value of the chroma (U and V) samples of an NV21 buffer that results in a grayscale image.
+     */
+    private static final byte NEUTRAL_CHROMA = (byte) 128;
+
+    private final int capacity;
+
+    @NonNull
+    private final ArrayDeque<ByteBuffer> buffers;
+
+    /**
+     * @param capacity The maximum number of buffers to keep.
+     */
+    public ByteBufferPool(int capacity) {
+        this.capacity = capacity;
+        this.buffers = new ArrayDeque<>(capacity);
+    }
+
+    /**
+     * Returns a direct buffer for an NV21 image of the given size
+     * whose chroma samples are already set to neutral gray.
+     *
+     * Only the luminance samples have to be written before the buffer is passed to ML Kit.
+     * The buffer must be returned with `release(...)` once it is no longer used.
+     */
+    @NonNull
+    public synchronized ByteBuffer acquireNv21Buffer(int width, int height) {
+        int size = width * height * 3 / 2;
+        while (!buffers.isEmpty()) {
+            ByteBuffer buffer = buffers.poll();
+            if (buffer.capacity() == size) {
+                buffer.clear();
+                return buffer;
+            }
+        }
+        ByteBuffer buffer = ByteBuffer.allocateDirect(size);
+        for (int i = width * height; i < size; i++) {
+            buffer.put(i, NEUTRAL_CHROMA);
+        }
+        return buffer;
+    }
+
+    public synchronized void release(@NonNull ByteBuffer buffer) {
+        if (buffers.size() < capacity) {
+            buffers.push(buffer);
+        }
+    }
+
+    public synchronized void clear() {
+        buffers.clear();
+    }
+}
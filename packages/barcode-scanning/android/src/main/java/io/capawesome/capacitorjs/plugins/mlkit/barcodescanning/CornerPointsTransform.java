@@ -0,0 +1,116 @@
+package io.capawesome.capacitorjs.plugins.mlkit.barcodescanning;
+
+import android.graphics.Matrix;
+import android.graphics.Point;
+import android.graphics.Rect;
+import android.graphics.RectF;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import com.getcapacitor.JSArray;
+
+/**
+ * Maps the corner points of the barcodes from the coordinates of the upright camera frame to the coordinates of the WebView.
+ *
+ * A transform is only created when the layout of the preview or the geometry of the camera frames changes
+ * and is then applied to all corner points, so the scale and offset are not recomputed for every barcode.
+ * Instances are immutable and can be shared between threads.
+ */
+public class CornerPointsTransform {
+
+    @NonNull
+    private final Matrix matrix;
+
+    @NonNull
+    private final Matrix inverseMatrix = new Matrix();
+
+    public CornerPointsTransform(@NonNull Matrix matrix) {
+        this.matrix = new Matrix(matrix);
+        this.matrix.invert(inverseMatrix);
+    }
+
+    /**
+     * Creates a transform for a preview that fills the whole screen with the `FILL_CENTER` scale type.
+     *
+     * This is only an approximation that is used as long as the transform of the preview is not known.
+     *
+     * @param imageSize The size of the unrotated camera frame.
+     */
+    @NonNull
+    public static CornerPointsTransform createForScreen(@NonNull Point imageSize, @NonNull Point screenSize) {
+        double screenWidth = screenSize.x;
+        double screenHeight = screenSize.y;
+        double imageWidth = imageSize.x;
+        double imageHeight = imageSize.y;
+        // Swap the image dimensions if the image is in landscape mode
+        if (screenWidth > screenHeight) {
+            imageWidth = imageSize.y;
+            imageHeight = imageSize.x;
+        }
+        // Calculate the scale of the image
+        double scale = Math.max(screenHeight / imageWidth, screenWidth / imageHeight);
+        // Calculate the invisible area of the image
+        double invisibleWidth = imageHeight * scale - screenWidth;
+        double invisibleHeight = imageWidth * scale - screenHeight;
+        // Scale the points and move them to the center of the screen
+        Matrix matrix = new Matrix();
+        matrix.setScale((float) scale, (float) scale);
+        matrix.postTranslate((float) (-invisibleWidth / 2), (float) (-invisibleHeight / 2));
+        return new CornerPointsTransform(matrix);
+    }
+
+    /**
+     * Returns a transform that additionally scales the result, e.g. from physical pixels to CSS pixels.
+     */
+    @NonNull
+    public CornerPointsTransform scale(float scale) {
+        Matrix matrix = new Matrix(this.matrix);
+        matrix.postScale(scale, scale);
+        return new CornerPointsTransform(matrix);
+    }
+
+    /**
+     * @param offset The offset to add to the corner points before the transform if the barcode was detected in a cropped image.
+     */
+    @NonNull
+    public JSArray createCornerPointsResult(@NonNull Point[] cornerPoints, @Nullable Point offset) {
+        int offsetX = offset == null ? 0 : offset.x;
+        int offsetY = offset == null ? 0 : offset.y;
+        float[] points = new float[cornerPoints.length * 2];
+        for (int i = 0; i < cornerPoints.length; i++) {
+            points[i * 2] = cornerPoints[i].x + offsetX;
+            points[i * 2 + 1] = cornerPoints[i].y + offsetY;
+        }
+        matrix.mapPoints(points);
+        JSArray cornerPointsResult = new JSArray();
+        for (int i = 0; i < points.length; i += 2) {
+            JSArray cornerPointResult = new JSArray();
+            cornerPointResult.put(Math.round(points[i]));
+            cornerPointResult.put(Math.round(points[i + 1]));
+            cornerPointsResult.put(cornerPointResult);
+        }
+        return cornerPointsResult;
+    }
+
+    /**
+     * Converts a rectangle in the coordinates of the WebView back into the coordinates of the upright camera frame.
+     * The result is clipped to the bounds of the frame.
+     *
+     * @param imageWidth The width of the upright camera frame.
+     * @param imageHeight The height of the upright camera frame.
+     */
+    @NonNull
+    public Rect mapRectToImage(@NonNull Rect rect, int imageWidth, int imageHeight) {
+        RectF imageRectF = new RectF(rect);
+        inverseMatrix.mapRect(imageRectF);
+        Rect imageRect = new Rect(
+            (int) Math.floor(imageRectF.left),
+            (int) Math.floor(imageRectF.top),
+            (int) Math.ceil(imageRectF.right),
+            (int) Math.ceil(imageRectF.bottom)
+        );
+        if (!imageRect.intersect(0, 0, imageWidth, imageHeight)) {
+            imageRect.setEmpty();
+        }
+        return imageRect;
+    }
+}
@@ -0,0 +1,104 @@
+package io.capawesome.capacitorjs.plugins.mlkit.barcodescanning;
+
+import android.os.PowerManager;
+
+/**
+ * Decides which camera frames are analyzed.
+ *
+ * Only one frame is analyzed at a time and frames are skipped to stay below the maximum analysis frame rate.
+ * In adaptive mode, the analysis rate is additionally lowered when the barcode detection takes longer
+ * or the device is thermally throttled, and raised again when the detection gets faster.
+ */
+public class FrameRateLimiter {
+
+    /**
+     * The minimum interval between two analyzed frames in adaptive mode
+     * as a multiple of the average detection latency.
+     */
+    private static final double ADAPTIVE_LATENCY_FACTOR = 2;
+
+    /**
+     * The weight of the latest detection latency in the moving average.
+     */
+    private static final double LATENCY_SMOOTHING_FACTOR = 0.2;
+
+    private final long minInterval;
+    private final boolean adaptive;
+
+    private boolean isProcessing = false;
+    private long lastFrameTimestamp = Long.MIN_VALUE;
+    private double averageLatency = 0;
+    private int thermalStatus = PowerManager.THERMAL_STATUS_NONE;
+
+    /**
+     * @param maxFrameRate The maximum number of frames per second to analyze. A value of 0 disables the limit.
+     * @param adaptive Whether or not the analysis rate should adapt to the detection latency and the thermal status.
+     */
+    public FrameRateLimiter(int maxFrameRate, boolean adaptive) {
+        this.minInterval = maxFrameRate > 0 ? 1000 / maxFrameRate : 0;
+        this.adaptive = adaptive;
+    }
+
+    /**
+     * Must be followed by a call to `release(...)` if the frame is analyzed.
+     *
+     * @param timestamp The time of the frame in milliseconds.
+     * @return Whether or not the frame should be analyzed.
+     */
+    public synchronized boolean tryAcquire(long timestamp) {
+        if (isProcessing) {
+            return false;
+        }
+        if (lastFrameTimestamp != Long.MIN_VALUE && timestamp - lastFrameTimestamp < getInterval()) {
+            return false;
+        }
+        isProcessing = true;
+        lastFrameTimestamp = timestamp;
+        return true;
+    }
+
+    /**
+     * Releases a frame that was skipped before the barcode detection, e.g. because it is blurred.
+     * The detection latency is not updated, since the frame says nothing about it.
+     */
+    public synchronized void release() {
+        isProcessing = false;
+    }
+
+    /**
+     * @param latency The time in milliseconds it took to analyze the frame.
+     */
+    public synchronized void release(long latency) {
+        isProcessing = false;
+        if (averageLatency == 0) {
+            averageLatency = latency;
+        } else {
+            averageLatency = averageLatency * (1 - LATENCY_SMOOTHING_FACTOR) + latency * LATENCY_SMOOTHING_FACTOR;
+        }
+    }
+
+    /**
+     * Returns the expected time in milliseconds between two analyzed frames.
+     * Since only one frame is analyzed at a time, this is at least the average detection latency.
+     */
+    public synchronized long getAnalysisInterval() {
+        return Math.max(getInterval(), (long) averageLatency);
+    }
+
+    public synchronized void setThermalStatus(int thermalStatus) {
+        this.thermalStatus = thermalStatus;
+    }
+
+    private long getInterval() {
+        if (!adaptive) {
+            return minInterval;
+        }
+        long interval = Math.max(minInterval, (long) (averageLatency * ADAPTIVE_LATENCY_FACTOR));
+        if (thermalStatus >= PowerManager.THERMAL_STATUS_SEVERE) {
+            interval *= 4;
+        } else if (thermalStatus >= PowerManager.THERMAL_STATUS_MODERATE) {
+            interval *= 2;
+        }
+        return interval;
+    }
+}
@@ -0,0 +1,81 @@
+package io.capawesome.capacitorjs.plugins.mlkit.barcodescanning;
+
+import androidx.annotation.NonNull;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Writes the frames of a scan session to a stream so that they can be replayed with a `FrameReplaySource`.
+ *
+ * Only the luminance is recorded, since the barcode detection does not use the chrominance.
+ * The recording starts with a header followed by the frames:
+ *
+ * <pre>
+ * header: int magic, int version
+ * frame:  int width, int height, int rotationDegrees, long timestamp, byte[width * height] luminance
+ * </pre>
+ */
+public class FrameRecorder {
+
+    public static final int MAGIC = 0x4d4c4b46;
+    public static final int VERSION = 1;
+
+    @NonNull
+    private final DataOutputStream outputStream;
+
+    private final int maxFrameCount;
+
+    private int frameCount = 0;
+
+    @NonNull
+    private byte[] row = new byte[0];
+
+    /**
+     * @param outputStream The stream to write the recording to. It is closed by `close()`.
+     * @param maxFrameCount The maximum number of frames to record. Further frames are ignored.
+     */
+    public FrameRecorder(@NonNull OutputStream outputStream, int maxFrameCount) throws IOException {
+        this.outputStream = new DataOutputStream(new BufferedOutputStream(outputStream));
+        this.maxFrameCount = maxFrameCount;
+        outputStream.writeInt(MAGIC);
+        outputStream.writeInt(VERSION);
+    }
+
+    /**
+     * Must be called before the frame is analyzed, since the buffer position is reset afterwards.
+     */
+    public synchronized void record(@NonNull AnalysisFrame frame) throws IOException {
+        if (frameCount >= maxFrameCount) {
+            return;
+        }
+        frameCount++;
+        int width = frame.getWidth();
+        int height = frame.getHeight();
+        outputStream.writeInt(width);
+        outputStream.writeInt(height);
+        outputStream.writeInt(frame.getRotationDegrees());
+        outputStream.writeLong(frame.getTimestamp());
+        if (row.length < width) {
+            row = new byte[width];
+        }
+        ByteBuffer buffer = frame.getLuminanceBuffer();
+        int rowStride = frame.getLuminanceRowStride();
+        for (int y = 0; y < height; y++) {
+            buffer.position(y * rowStride);
+            buffer.get(row, 0, width);
+            outputStream.write(row, 0, width);
+        }
+        buffer.rewind();
+    }
+
+    public synchronized void close() {
+        try {
+            outputStream.close();
+        } catch (IOException exception) {
+            // Ignore
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package io.capawesome.capacitorjs.plugins.mlkit.barcodescanning;
+
+import android.media.Image;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Reads the frames that were written by a `FrameRecorder`.
+ *
+ * The frames can be passed to `BarcodeScanner.replayFrames(...)` to run them through the
+ * same analysis as the camera frames, e.g. to reproduce scanning issues without a camera.
+ */
+public class FrameReplaySource {
+
+    /**
+     * The maximum number of pixels of a frame. Larger sizes can only come from a corrupt file.
+     */
+    private static final int MAX_FRAME_PIXEL_COUNT = 4096 * 4096;
+
+    @NonNull
+    private final DataInputStream inputStream;
+
+    public FrameReplaySource(@NonNull InputStream inputStream) throws IOException {
+        this.inputStream = new DataInputStream(new BufferedInputStream(inputStream));
+        if (this.inputStream.readInt() != FrameRecorder.MAGIC || this.inputStream.readInt() != FrameRecorder.VERSION) {
+            throw new IOException(BarcodeScannerPlugin.ERROR_LOAD_RECORDING_FAILED);
+        }
+    }
+
+    /**
+     * Returns the next frame or `null` if all frames have been read.
+     */
+    @Nullable
+    public RecordedFrame next() throws IOException {
+        int width;
+        try {
+            width = inputStream.readInt();
+        } catch (EOFException exception) {
+            return null;
+        }
+        int height = inputStream.readInt();
+        int rotationDegrees = inputStream.readInt();
+        long timestamp = inputStream.readLong();
+        if (!isValidFrameSize(width, height) || rotationDegrees % 90 != 0) {
+            throw new IOException(BarcodeScannerPlugin.ERROR_LOAD_RECORDING_FAILED);
+        }
+        byte[] luminance = new byte[width * height];
+        inputStream.readFully(luminance);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(luminance.length);
+        buffer.put(luminance);
+        buffer.rewind();
+        return new RecordedFrame(width, height, rotationDegrees, timestamp, buffer);
+    }
+
+    private static boolean isValidFrameSize(int width, int height) {
+        return width > 0 && height > 0 && (long) width * height <= MAX_FRAME_PIXEL_COUNT;
+    }
+
+    public void close() {
+        try {
+            inputStream.close();
+        } catch (IOException exception) {
+            // Ignore
+        }
+    }
+
+    public static class RecordedFrame implements AnalysisFrame {
+
+        private final int width;
+        private final int height;
+        private final int rotationDegrees;
+        private final long timestamp;
+
+        @NonNull
+        private final ByteBuffer luminanceBuffer;
+
+        @NonNull
+        private final CountDownLatch closedLatch = new CountDownLatch(1);
+
+        private RecordedFrame(int width, int height, int rotationDegrees, long timestamp, @NonNull ByteBuffer luminanceBuffer) {
+            this.width = width;
+            this.height = height;
+            this.rotationDegrees = rotationDegrees;
+            this.timestamp = timestamp;
+            this.luminanceBuffer = luminanceBuffer;
+        }
+
+        @Override
+        public int getWidth() {
+            return width;
+        }
+
+        @Override
+        public int getHeight() {
+            return height;
+        }
+
+        @Override
+        public int getRotationDegrees() {
+            return rotationDegrees;
+        }
+
+        @Override
+        public long getTimestamp() {
+            return timestamp;
+        }
+
+        @Override
+        @NonNull
+        public ByteBuffer getLuminanceBuffer() {
+            return luminanceBuffer;
+        }
+
+        @Override
+        public int getLuminanceRowStride() {
+            return width;
+        }
+
+        @Override
+        @Nullable
+        public Image getMediaImage() {
+            return null;
+        }
+
+        @Override
+        public void close() {
+            closedLatch.countDown();
+        }
+
+        /**
+         * Blocks until the frame has been processed.
+         */
+        public void awaitClosed() throws InterruptedException {
+            closedLatch.await();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package io.capawesome.capacitorjs.plugins.mlkit.barcodescanning;
+
+import androidx.annotation.NonNull;
+import com.getcapacitor.JSArray;
+import com.getcapacitor.JSObject;
+
+/**
+ * Histogram of latencies in milliseconds with fixed bucket bounds.
+ *
+ * Recording a value does not allocate, so it can be used on the analysis hot path.
+ * The class is not thread-safe.
+ */
+public class LatencyHistogram {
+
+    /**
+     * The inclusive upper bounds of the buckets in milliseconds.
+     * Values greater than the last bound are counted in an additional overflow bucket.
+     */
+    private static final long[] BUCKET_UPPER_BOUNDS = new long[] { 5, 10, 20, 50, 100, 200, 500, 1000 };
+
+    @NonNull
+    private final long[] bucketCounts;
+
+    private long count;
+    private long sum;
+    private long max;
+
+    public LatencyHistogram() {
+        this.bucketCounts = new long[BUCKET_UPPER_BOUNDS.length + 1];
+    }
+
+    private LatencyHistogram(@NonNull LatencyHistogram histogram) {
+        this.bucketCounts = histogram.bucketCounts.clone();
+        this.count = histogram.count;
+        this.sum = histogram.sum;
+        this.max = histogram.max;
+    }
+
+    public void record(long latency) {
+        int index = 0;
+        while (index < BUCKET_UPPER_BOUNDS.length && latency > BUCKET_UPPER_BOUNDS[index]) {
+            index++;
+        }
+        bucketCounts[index]++;
+        count++;
+        sum += latency;
+        if (latency > max) {
+            max = latency;
+        }
+    }
+
+    @NonNull
+    public LatencyHistogram copy() {
+        return new LatencyHistogram(this);
+    }
+
+    @NonNull
+    public JSObject toJSObject() {
+        JSArray bucketUpperBoundsResult = new JSArray();
+        for (long bucketUpperBound : BUCKET_UPPER_BOUNDS) {
+            bucketUpperBoundsResult.put(bucketUpperBound);
+        }
+        JSArray bucketCountsResult = new JSArray();
+        for (long bucketCount : bucketCounts) {
+            bucketCountsResult.put(bucketCount);
+        }
+
+        JSObject result = new JSObject();
+        result.put("average", count == 0 ? 0 : (double) sum / count);
+        result.put("bucketCounts", bucketCountsResult);
+        result.put("bucketUpperBounds", bucketUpperBoundsResult);
+        result.put("count", count);
+        result.put("max", max);
+        return result;
+    }
+}
@@ -0,0 +1,185 @@
+package io.capawesome.capacitorjs.plugins.mlkit.barcodescanning;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Compensates dark scenes during a scan session based on the mean luminance of the camera frames.
+ *
+ * The exposure compensation is raised step by step first. If the frames are still too dark at the maximum
+ * exposure compensation, the torch is enabled. Once the scene is bright enough again, the changes are undone
+ * in reverse order.
+ *
+ * To prevent the camera from oscillating, the brightness of the scene is estimated without the effect
+ * of the own changes, the dark and bright thresholds are apart from each other, and a change is only made
+ * after the brightness stayed beyond a threshold for a while.
+ */
+public class LowLightController {
+
+    public enum Action {
+        NONE,
+        INCREASE_EXPOSURE_COMPENSATION,
+        DECREASE_EXPOSURE_COMPENSATION,
+        ENABLE_TORCH,
+        DISABLE_TORCH
+    }
+
+    /**
+     * Below this mean luminance, the scene is considered too dark.
+     */
+    public static final int DEFAULT_DARK_THRESHOLD = 50;
+
+    /**
+     * Above this mean luminance, the scene is considered bright enough to undo the changes.
+     */
+    public static final int DEFAULT_BRIGHT_THRESHOLD = 110;
+
+    /**
+     * The time in milliseconds that the brightness must stay beyond a threshold before a change is made.
+     */
+    private static final long HOLD_TIME = 700;
+
+    /**
+     * The time in milliseconds after a change in which the auto exposure of the camera converges.
+     */
+    private static final long SETTLE_TIME = 500;
+
+    /**
+     * The weight of the latest luminance in the moving average.
+     */
+    private static final double LUMINANCE_SMOOTHING_FACTOR = 0.2;
+
+    private final boolean autoTorch;
+    private final boolean autoExposureCompensation;
+    private final int darkThreshold;
+    private final int brightThreshold;
+
+    private boolean isTorchAvailable = false;
+    private int maxExposureCompensationIndex = 0;
+    private float exposureCompensationStep = 0;
+
+    private double averageLuminance = -1;
+    private int exposureCompensationIndex = 0;
+    private boolean isTorchEnabled = false;
+    private double luminanceBeforeTorch = 0;
+    private double torchLuminanceBoost = -1;
+    private int pendingDirection = 0;
+    private long pendingSince = 0;
+    private long lastChangeTimestamp = Long.MIN_VALUE;
+
+    public LowLightController(boolean autoTorch, boolean autoExposureCompensation, int darkThreshold, int brightThreshold) {
+        this.autoTorch = autoTorch;
+        this.autoExposureCompensation = autoExposureCompensation;
+        this.darkThreshold = darkThreshold;
+        this.brightThreshold = brightThreshold;
+    }
+
+    /**
+     * Must be called once the camera is bound, no changes are made before.
+     */
+    public synchronized void setTorchAvailable(boolean isTorchAvailable) {
+        this.isTorchAvailable = isTorchAvailable;
+    }
+
+    /**
+     * Must be called once the camera is bound, no changes are made before.
+     *
+     * @param maxExposureCompensationIndex The upper bound of the exposure compensation range of the camera.
+     * @param exposureCompensationStep The exposure value (EV) of one exposure compensation step.
+     */
+    public synchronized void setExposureCompensationRange(int maxExposureCompensationIndex, float exposureCompensationStep) {
+        this.maxExposureCompensationIndex = maxExposureCompensationIndex;
+        this.exposureCompensationStep = exposureCompensationStep;
+    }
+
+    /**
+     * Stops controlling the torch, e.g. because the user turned it on or off.
+     */
+    public synchronized void releaseTorch() {
+        isTorchEnabled = false;
+        torchLuminanceBoost = -1;
+    }
+
+    public synchronized int getExposureCompensationIndex() {
+        return exposureCompensationIndex;
+    }
+
+    /**
+     * @param luminance The mean luminance of the frame between 0 and 255.
+     * @param timestamp The time of the frame in milliseconds.
+     * @return The change that should be applied to the camera.
+     */
+    @NonNull
+    public synchronized Action update(double luminance, long timestamp) {
+        if (averageLuminance < 0) {
+            averageLuminance = luminance;
+        } else {
+            averageLuminance += LUMINANCE_SMOOTHING_FACTOR * (luminance - averageLuminance);
+        }
+        if (lastChangeTimestamp != Long.MIN_VALUE && timestamp - lastChangeTimestamp < SETTLE_TIME) {
+            return Action.NONE;
+        }
+        if (isTorchEnabled && torchLuminanceBoost < 0) {
+            torchLuminanceBoost = Math.max(0, averageLuminance - luminanceBeforeTorch);
+        }
+        double sceneLuminance = estimateSceneLuminance();
+        int direction = sceneLuminance < darkThreshold ? -1 : sceneLuminance > brightThreshold ? 1 : 0;
+        if (direction != pendingDirection) {
+            pendingDirection = direction;
+            pendingSince = timestamp;
+            return Action.NONE;
+        }
+        if (direction == 0 || timestamp - pendingSince < HOLD_TIME) {
+            return Action.NONE;
+        }
+        Action action = direction < 0 ? brighten() : undoBrighten();
+        if (action != Action.NONE) {
+            lastChangeTimestamp = timestamp;
+            pendingDirection = 0;
+            pendingSince = timestamp;
+        }
+        return action;
+    }
+
+    /**
+     * Returns the mean luminance that the scene would have without the torch and the exposure compensation.
+     */
+    private double estimateSceneLuminance() {
+        double sceneLuminance = averageLuminance;
+        if (isTorchEnabled) {
+            sceneLuminance -= Math.max(0, torchLuminanceBoost);
+        }
+        if (exposureCompensationIndex > 0) {
+            sceneLuminance /= Math.pow(2, exposureCompensationIndex * exposureCompensationStep);
+        }
+        return sceneLuminance;
+    }
+
+    @NonNull
+    private Action brighten() {
+        if (autoExposureCompensation && exposureCompensationIndex < maxExposureCompensationIndex) {
+            exposureCompensationIndex++;
+            return Action.INCREASE_EXPOSURE_COMPENSATION;
+        }
+        if (autoTorch && isTorchAvailable && !isTorchEnabled) {
+            isTorchEnabled = true;
+            luminanceBeforeTorch = averageLuminance;
+            torchLuminanceBoost = -1;
+            return Action.ENABLE_TORCH;
+        }
+        return Action.NONE;
+    }
+
+    @NonNull
+    private Action undoBrighten() {
+        if (isTorchEnabled) {
+            isTorchEnabled = false;
+            torchLuminanceBoost = -1;
+            return Action.DISABLE_TORCH;
+        }
+        if (exposureCompensationIndex > 0) {
+            exposureCompensationIndex--;
+            return Action.DECREASE_EXPOSURE_COMPENSATION;
+        }
+        return Action.NONE;
+    }
+}
@@ -0,0 +1,40 @@
+package io.capawesome.capacitorjs.plugins.mlkit.barcodescanning;
+
+import android.graphics.Rect;
+import androidx.annotation.NonNull;
+import java.nio.ByteBuffer;
+
+/**
+ * Estimates the brightness of a camera frame from its luminance (Y) plane.
+ *
+ * The brightness is the mean luminance of the pixels on a sparse grid, which is accurate enough
+ * to detect underexposed frames at a fraction of the cost of reading every pixel.
+ */
+public class LuminanceEstimator {
+
+    /**
+     * The distance in pixels between two sampled pixels in each direction.
+     */
+    private static final int SAMPLE_STEP = 8;
+
+    /**
+     * Does not allocate and does not change the position of the buffer.
+     *
+     * @param yBuffer The luminance plane with a pixel stride of 1.
+     * @param rowStride The row stride of the luminance plane.
+     * @param region The region of the luminance plane to sample.
+     * @return The mean luminance between 0 (black) and 255 (white).
+     */
+    public static double estimate(@NonNull ByteBuffer yBuffer, int rowStride, @NonNull Rect region) {
+        long luminanceSum = 0;
+        int sampleCount = 0;
+        for (int y = region.top; y < region.bottom; y += SAMPLE_STEP) {
+            int rowOffset = y * rowStride;
+            for (int x = region.left; x < region.right; x += SAMPLE_STEP) {
+                luminanceSum += yBuffer.get(rowOffset + x) & 0xFF;
+                sampleCount++;
+            }
+        }
+        return sampleCount == 0 ? 0 : (double) luminanceSum / sampleCount;
+    }
+}
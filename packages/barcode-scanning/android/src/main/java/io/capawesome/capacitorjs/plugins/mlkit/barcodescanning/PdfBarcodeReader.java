@@ -0,0 +1,290 @@
+package io.capawesome.capacitorjs.plugins.mlkit.barcodescanning;
+
+import android.content.ContentResolver;
+import android.graphics.Bitmap;
+import android.graphics.Color;
+import android.graphics.pdf.PdfRenderer;
+import android.net.Uri;
+import android.os.ParcelFileDescriptor;
+import androidx.annotation.NonNull;
+import com.google.android.gms.tasks.Tasks;
+import com.google.mlkit.vision.barcode.common.Barcode;
+import com.google.mlkit.vision.common.InputImage;
+import io.capawesome.capacitorjs.plugins.mlkit.barcodescanning.classes.events.PdfPageBarcodesReadEvent;
+import io.capawesome.capacitorjs.plugins.mlkit.barcodescanning.classes.results.ReadBarcodesFromPdfResult;
+import io.capawesome.capacitorjs.plugins.mlkit.barcodescanning.interfaces.NonEmptyResultCallback;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Reads barcodes from the pages of a PDF document.
+ *
+ * `PdfRenderer` can only render one page at a time, so the pages are rendered on a single thread
+ * while the rendered pages are scanned in parallel. The bitmaps are reused between pages.
+ * At most one bitmap per scan thread plus the one being rendered is held in memory, and fewer
+ * if the pages are large, since the total number of pixels of all bitmaps is bounded.
+ */
+public class PdfBarcodeReader {
+
+    public static final int DEFAULT_DPI = 200;
+
+    /**
+     * The resolution of the PDF coordinate system.
+     */
+    private static final int POINTS_PER_INCH = 72;
+
+    /**
+     * The maximum width and height of a rendered page to limit the memory usage for large pages.
+     */
+    private static final int MAX_PAGE_DIMENSION = 4096;
+
+    /**
+     * The maximum number of pixels of all bitmaps together. A page with the maximum dimensions always fits,
+     * but is then scanned on its own.
+     */
+    private static final long MAX_TOTAL_PIXEL_COUNT = (long) MAX_PAGE_DIMENSION * MAX_PAGE_DIMENSION;
+
+    /**
+     * The maximum time in milliseconds to wait for the scan threads after a fatal error.
+     * If they take longer, the bitmaps are left to the garbage collector.
+     */
+    private static final long TERMINATION_TIMEOUT = 5000;
+
+    public interface PageListener {
+        void onPageRead(@NonNull PdfPageBarcodesReadEvent event);
+    }
+
+    @NonNull
+    private final ContentResolver contentResolver;
+
+    @NonNull
+    private final com.google.mlkit.vision.barcode.BarcodeScanner barcodeScannerInstance;
+
+    private final int dpi;
+    private final int threadCount;
+
+    @NonNull
+    private final PageListener pageListener;
+
+    public PdfBarcodeReader(
+        @NonNull ContentResolver contentResolver,
+        @NonNull com.google.mlkit.vision.barcode.BarcodeScanner barcodeScannerInstance,
+        int dpi,
+        int threadCount,
+        @NonNull PageListener pageListener
+    ) {
+        this.contentResolver = contentResolver;
+        this.barcodeScannerInstance = barcodeScannerInstance;
+        this.dpi = dpi;
+        this.threadCount = Math.max(1, threadCount);
+        this.pageListener = pageListener;
+    }
+
+    /**
+     * Reads the barcodes in the background.
+     * The barcodes of each page are passed to the page listener as soon as the page has been processed.
+     */
+    public void read(@NonNull Uri uri, @NonNull NonEmptyResultCallback<ReadBarcodesFromPdfResult> callback) {
+        ExecutorService renderExecutor = Executors.newSingleThreadExecutor();
+        renderExecutor.execute(() -> {
+            ParcelFileDescriptor fileDescriptor = null;
+            PdfRenderer renderer = null;
+            try {
+                try {
+                    fileDescriptor = contentResolver.openFileDescriptor(uri, "r");
+                    renderer = fileDescriptor == null ? null : new PdfRenderer(fileDescriptor);
+                } catch (Exception exception) {
+                    renderer = null;
+                }
+                if (renderer == null) {
+                    throw new Exception(BarcodeScannerPlugin.ERROR_LOAD_PDF_FAILED);
+                }
+                readPages(renderer, callback);
+            } catch (Throwable throwable) {
+                // Also catch errors like `OutOfMemoryError`, the call must settle in any case
+                callback.error(toException(throwable));
+            } finally {
+                if (renderer != null) {
+                    renderer.close();
+                }
+                closeQuietly(fileDescriptor);
+                renderExecutor.shutdown();
+            }
+        });
+    }
+
+    /**
+     * Renders the pages one after another and passes them to the scan threads.
+     */
+    private void readPages(@NonNull PdfRenderer renderer, @NonNull NonEmptyResultCallback<ReadBarcodesFromPdfResult> callback) {
+        int pageCount = renderer.getPageCount();
+        if (pageCount == 0) {
+            callback.success(new ReadBarcodesFromPdfResult(0, 0, 0));
+            return;
+        }
+        int scanThreadCount = Math.min(pageCount, threadCount);
+        ExecutorService scanExecutor = Executors.newFixedThreadPool(scanThreadCount);
+        // One bitmap per scan thread and one that is being rendered
+        int bitmapCount = scanThreadCount + 1;
+        BlockingQueue<Bitmap> freeBitmaps = new ArrayBlockingQueue<>(bitmapCount);
+        List<Bitmap> bitmaps = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger remainingPageCount = new AtomicInteger(pageCount);
+        AtomicInteger failedPageCount = new AtomicInteger();
+        AtomicInteger barcodeCount = new AtomicInteger();
+        AtomicBoolean isSettled = new AtomicBoolean(false);
+        Runnable recycleBitmaps = () -> {
+            synchronized (bitmaps) {
+                for (Bitmap bitmap : bitmaps) {
+                    bitmap.recycle();
+                }
+            }
+        };
+        Runnable onPageCompleted = () -> {
+            if (remainingPageCount.decrementAndGet() == 0 && isSettled.compareAndSet(false, true)) {
+                scanExecutor.shutdown();
+                recycleBitmaps.run();
+                callback.success(new ReadBarcodesFromPdfResult(pageCount, failedPageCount.get(), barcodeCount.get()));
+            }
+        };
+        try {
+            for (int i = 0; i < pageCount; i++) {
+                int pageIndex = i;
+                Bitmap bitmap = null;
+                try (PdfRenderer.Page page = renderer.openPage(pageIndex)) {
+                    bitmap = obtainBitmap(page, bitmapCount, freeBitmaps, bitmaps);
+                    // Pages are transparent by default, but the barcode scanner expects dark bars on a light background
+                    bitmap.eraseColor(Color.WHITE);
+                    page.render(bitmap, null, null, PdfRenderer.Page.RENDER_MODE_FOR_DISPLAY);
+                } catch (InterruptedException exception) {
+                    throw exception;
+                } catch (Throwable throwable) {
+                    // Also catch errors like `OutOfMemoryError`, so the remaining pages are still read
+                    if (bitmap != null && !bitmap.isRecycled()) {
+                        freeBitmaps.offer(bitmap);
+                    }
+                    failedPageCount.incrementAndGet();
+                    pageListener.onPageRead(new PdfPageBarcodesReadEvent(pageIndex, Collections.emptyList(), throwable.getMessage()));
+                    onPageCompleted.run();
+                    continue;
+                }
+                Bitmap renderedBitmap = bitmap;
+                scanExecutor.execute(() -> {
+                    try {
+                        List<Barcode> barcodes = Tasks.await(barcodeScannerInstance.process(InputImage.fromBitmap(renderedBitmap, 0)));
+                        barcodeCount.addAndGet(barcodes.size());
+                        pageListener.onPageRead(new PdfPageBarcodesReadEvent(pageIndex, barcodes, null));
+                    } catch (Throwable throwable) {
+                        Throwable cause = throwable instanceof ExecutionException && throwable.getCause() != null
+                            ? throwable.getCause()
+                            : throwable;
+                        failedPageCount.incrementAndGet();
+                        pageListener.onPageRead(new PdfPageBarcodesReadEvent(pageIndex, Collections.emptyList(), cause.getMessage()));
+                    } finally {
+                        freeBitmaps.offer(renderedBitmap);
+                        onPageCompleted.run();
+                    }
+                });
+            }
+        } catch (Throwable throwable) {
+            // The remaining pages can not be read, so the pending pages must not settle the call anymore
+            if (isSettled.compareAndSet(false, true)) {
+                scanExecutor.shutdownNow();
+                callback.error(toException(throwable));
+                // A bitmap must not be recycled while a scan thread may still read it
+                if (awaitTermination(scanExecutor)) {
+                    recycleBitmaps.run();
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns a bitmap with the size of the rendered page.
+     *
+     * A free bitmap is reused if it is large enough. A new bitmap is only created if the number of bitmaps
+     * and the total number of pixels stay within their bounds, otherwise this method blocks until
+     * a scan thread has returned a bitmap.
+     */
+    @NonNull
+    private Bitmap obtainBitmap(
+        @NonNull PdfRenderer.Page page,
+        int maxBitmapCount,
+        @NonNull BlockingQueue<Bitmap> freeBitmaps,
+        @NonNull List<Bitmap> bitmaps
+    ) throws InterruptedException {
+        float scale = (float) dpi / POINTS_PER_INCH;
+        scale = Math.min(scale, (float) MAX_PAGE_DIMENSION / Math.max(page.getWidth(), page.getHeight()));
+        int width = Math.max(1, Math.round(page.getWidth() * scale));
+        int height = Math.max(1, Math.round(page.getHeight() * scale));
+        long pixelCount = (long) width * height;
+        Bitmap bitmap = freeBitmaps.poll();
+        while (true) {
+            if (bitmap != null) {
+                if (bitmap.getWidth() == width && bitmap.getHeight() == height) {
+                    return bitmap;
+                }
+                if (bitmap.getAllocationByteCount() >= pixelCount * 4) {
+                    bitmap.reconfigure(width, height, Bitmap.Config.ARGB_8888);
+                    return bitmap;
+                }
+                // Free the memory of the bitmap that is too small, so that a larger one fits into the budget
+                bitmaps.remove(bitmap);
+                bitmap.recycle();
+            }
+            if (bitmaps.size() < maxBitmapCount && getPixelCount(bitmaps) + pixelCount <= MAX_TOTAL_PIXEL_COUNT) {
+                bitmap = Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_8888);
+                bitmaps.add(bitmap);
+                return bitmap;
+            }
+            // Blocks until a scan thread has returned a bitmap, which bounds the memory usage
+            bitmap = freeBitmaps.take();
+        }
+    }
+
+    /**
+     * @return `false` if the scan threads are still running after the timeout.
+     */
+    private static boolean awaitTermination(@NonNull ExecutorService executor) {
+        try {
+            return executor.awaitTermination(TERMINATION_TIMEOUT, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static long getPixelCount(@NonNull List<Bitmap> bitmaps) {
+        long pixelCount = 0;
+        synchronized (bitmaps) {
+            for (Bitmap bitmap : bitmaps) {
+                pixelCount += bitmap.getAllocationByteCount() / 4;
+            }
+        }
+        return pixelCount;
+    }
+
+    @NonNull
+    private static Exception toException(@NonNull Throwable throwable) {
+        return throwable instanceof Exception ? (Exception) throwable : new Exception(throwable.getMessage(), throwable);
+    }
+
+    private static void closeQuietly(ParcelFileDescriptor fileDescriptor) {
+        if (fileDescriptor == null) {
+            return;
+        }
+        try {
+            fileDescriptor.close();
+        } catch (Exception exception) {
+            // Ignore
+        }
+    }
+}
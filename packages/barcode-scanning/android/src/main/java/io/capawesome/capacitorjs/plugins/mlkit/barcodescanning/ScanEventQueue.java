@@ -0,0 +1,290 @@
+package io.capawesome.capacitorjs.plugins.mlkit.barcodescanning;
+
+import android.os.Handler;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import com.getcapacitor.JSObject;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Bounded queue for the scan events between the analysis executor and the WebView.
+ *
+ * `notifyListeners(...)` only posts the events to the WebView, so the main thread alone cannot tell whether
+ * the JavaScript listeners keep up. Therefore, the queued events are delivered in batches and the next batch
+ * is only delivered once the listeners have acknowledged the previous one, or after a timeout if they never do.
+ * In the meantime, the events are dropped or coalesced according to the policy instead of piling up in the WebView.
+ *
+ * The events of a track, e.g. `barcodeEntered`, `barcodeMoved` and `barcodeLeft`, form a sequence.
+ * The start and the end of a sequence are never dropped. If a sequence ends before its start was delivered,
+ * the whole sequence is removed, so the number of queued events is bounded by the number of visible barcodes.
+ */
+public class ScanEventQueue {
+
+    public static final int DEFAULT_CAPACITY = 10;
+
+    /**
+     * The time in milliseconds after which the next batch is delivered even if the previous batch was not acknowledged.
+     */
+    public static final long ACKNOWLEDGEMENT_TIMEOUT = 1000;
+
+    public enum Policy {
+        /**
+         * Drop the oldest event if the queue is full.
+         */
+        DROP_OLDEST,
+        /**
+         * Replace a queued event of the same type with the same key, e.g. the same raw value.
+         */
+        COALESCE,
+        /**
+         * Only keep the latest event of each type.
+         */
+        LATEST_ONLY
+    }
+
+    public enum SequenceStep {
+        START,
+        /**
+         * Droppable and coalesced with the queued updates of the same sequence.
+         */
+        UPDATE,
+        END
+    }
+
+    public interface Listener {
+        void onEvent(@NonNull String eventName, @NonNull JSObject data);
+    }
+
+    @NonNull
+    private final Policy policy;
+
+    private final int capacity;
+
+    @NonNull
+    private final Handler handler;
+
+    @NonNull
+    private final ScanMetrics scanMetrics;
+
+    @NonNull
+    private final Listener listener;
+
+    @NonNull
+    private final LinkedList<Event> events = new LinkedList<>();
+
+    private int droppableEventCount = 0;
+    private boolean isDrainScheduled = false;
+    private boolean isAwaitingAcknowledgement = false;
+
+    @NonNull
+    private final Runnable drainRunnable = this::drain;
+
+    @NonNull
+    private final Runnable acknowledgementTimeoutRunnable = this::acknowledge;
+
+    /**
+     * @param handler The handler of the thread on which the events are delivered.
+     */
+    public ScanEventQueue(
+        @NonNull Policy policy,
+        int capacity,
+        @NonNull Handler handler,
+        @NonNull ScanMetrics scanMetrics,
+        @NonNull Listener listener
+    ) {
+        this.policy = policy;
+        this.capacity = Math.max(1, capacity);
+        this.handler = handler;
+        this.scanMetrics = scanMetrics;
+        this.listener = listener;
+    }
+
+    /**
+     * @param key The key to coalesce events of the same type or `null` if the event cannot be coalesced.
+     * @param droppable Whether or not the event may be dropped. Events that must not get lost are always delivered.
+     */
+    public synchronized void enqueue(@NonNull String eventName, @Nullable String key, @NonNull JSObject data, boolean droppable) {
+        add(new Event(eventName, key, data, droppable, null, null));
+    }
+
+    /**
+     * @param sequenceKey The key of the sequence, e.g. the track ID.
+     */
+    public synchronized void enqueueSequenceEvent(
+        @NonNull String eventName,
+        @NonNull String sequenceKey,
+        @NonNull JSObject data,
+        @NonNull SequenceStep step
+    ) {
+        if (step == SequenceStep.END && removeUndeliveredSequence(sequenceKey)) {
+            // The listeners never learned about the sequence
+            return;
+        }
+        add(new Event(eventName, sequenceKey, data, step == SequenceStep.UPDATE, sequenceKey, step));
+    }
+
+    /**
+     * Delivers the next batch of events. Must be called by the listeners once they have processed the events.
+     */
+    public synchronized void acknowledge() {
+        if (!isAwaitingAcknowledgement) {
+            return;
+        }
+        isAwaitingAcknowledgement = false;
+        handler.removeCallbacks(acknowledgementTimeoutRunnable);
+        scheduleDrain();
+    }
+
+    private void add(@NonNull Event newEvent) {
+        String eventName = newEvent.eventName;
+        String key = newEvent.key;
+        boolean droppable = newEvent.droppable;
+        int droppedEventCount = 0;
+        if (droppable) {
+            if (policy == Policy.LATEST_ONLY || (policy == Policy.COALESCE && key != null)) {
+                Iterator<Event> iterator = events.iterator();
+                while (iterator.hasNext()) {
+                    Event event = iterator.next();
+                    if (!event.droppable || !event.eventName.equals(eventName)) {
+                        continue;
+                    }
+                    if (policy == Policy.LATEST_ONLY || Objects.equals(event.key, key)) {
+                        iterator.remove();
+                        droppableEventCount--;
+                        droppedEventCount++;
+                    }
+                }
+            }
+            droppableEventCount++;
+        }
+        events.add(newEvent);
+        while (droppableEventCount > capacity) {
+            Iterator<Event> iterator = events.iterator();
+            while (iterator.hasNext()) {
+                if (iterator.next().droppable) {
+                    iterator.remove();
+                    break;
+                }
+            }
+            droppableEventCount--;
+            droppedEventCount++;
+        }
+        if (droppedEventCount > 0) {
+            scanMetrics.recordEventsDropped(droppedEventCount);
+        }
+        scheduleDrain();
+    }
+
+    /**
+     * Removes all queued events of the sequence if its start has not been delivered yet.
+     *
+     * @return Whether or not the sequence was removed.
+     */
+    private boolean removeUndeliveredSequence(@NonNull String sequenceKey) {
+        boolean hasUndeliveredStart = false;
+        for (Event event : events) {
+            if (event.step == SequenceStep.START && sequenceKey.equals(event.sequenceKey)) {
+                hasUndeliveredStart = true;
+                break;
+            }
+        }
+        if (!hasUndeliveredStart) {
+            return false;
+        }
+        int droppedEventCount = 0;
+        Iterator<Event> iterator = events.iterator();
+        while (iterator.hasNext()) {
+            Event event = iterator.next();
+            if (sequenceKey.equals(event.sequenceKey)) {
+                iterator.remove();
+                if (event.droppable) {
+                    droppableEventCount--;
+                }
+                droppedEventCount++;
+            }
+        }
+        // The end of the sequence is dropped as well
+        scanMetrics.recordEventsDropped(droppedEventCount + 1);
+        return true;
+    }
+
+    private void scheduleDrain() {
+        if (!isDrainScheduled && !isAwaitingAcknowledgement && !events.isEmpty()) {
+            isDrainScheduled = true;
+            handler.post(drainRunnable);
+        }
+    }
+
+    /**
+     * Removes all queued events without delivering them.
+     */
+    public synchronized void clear() {
+        events.clear();
+        droppableEventCount = 0;
+        isDrainScheduled = false;
+        isAwaitingAcknowledgement = false;
+        handler.removeCallbacks(drainRunnable);
+        handler.removeCallbacks(acknowledgementTimeoutRunnable);
+    }
+
+    private void drain() {
+        List<Event> events;
+        synchronized (this) {
+            if (!isDrainScheduled) {
+                return;
+            }
+            isDrainScheduled = false;
+            if (this.events.isEmpty()) {
+                return;
+            }
+            events = new ArrayList<>(this.events);
+            this.events.clear();
+            droppableEventCount = 0;
+            isAwaitingAcknowledgement = true;
+            handler.postDelayed(acknowledgementTimeoutRunnable, ACKNOWLEDGEMENT_TIMEOUT);
+        }
+        for (Event event : events) {
+            listener.onEvent(event.eventName, event.data);
+        }
+    }
+
+    private static class Event {
+
+        @NonNull
+        private final String eventName;
+
+        @Nullable
+        private final String key;
+
+        @NonNull
+        private final JSObject data;
+
+        private final boolean droppable;
+
+        @Nullable
+        private final String sequenceKey;
+
+        @Nullable
+        private final SequenceStep step;
+
+        private Event(
+            @NonNull String eventName,
+            @Nullable String key,
+            @NonNull JSObject data,
+            boolean droppable,
+            @Nullable String sequenceKey,
+            @Nullable SequenceStep step
+        ) {
+            this.eventName = eventName;
+            this.key = key;
+            this.data = data;
+            this.droppable = droppable;
+            this.sequenceKey = sequenceKey;
+            this.step = step;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package io.capawesome.capacitorjs.plugins.mlkit.barcodescanning;
+
+import android.os.SystemClock;
+import androidx.annotation.NonNull;
+import io.capawesome.capacitorjs.plugins.mlkit.barcodescanning.classes.results.GetScanMetricsResult;
+
+/**
+ * Collects performance metrics of a scan session.
+ *
+ * All record methods are allocation-free so that they can be called for every camera frame.
+ */
+public class ScanMetrics {
+
+    private final long sessionStartTime;
+
+    private long framesReceived;
+    private long framesSkipped;
+    private long framesBlurred;
+    private long framesAnalyzed;
+    private long framesFailed;
+    private long barcodesReported;
+    private long barcodesRejected;
+    private long eventsDropped;
+    private long timeToFirstRead = -1;
+
+    @NonNull
+    private final LatencyHistogram processLatency = new LatencyHistogram();
+
+    @NonNull
+    private final LatencyHistogram notifyLatency = new LatencyHistogram();
+
+    public ScanMetrics() {
+        this.sessionStartTime = SystemClock.elapsedRealtime();
+    }
+
+    public synchronized void recordFrameReceived() {
+        framesReceived++;
+    }
+
+    /**
+     * Records a frame that was not passed to the barcode scanner.
+     */
+    public synchronized void recordFrameSkipped() {
+        framesSkipped++;
+    }
+
+    /**
+     * Records a frame that was not passed to the barcode scanner because it was too blurred.
+     */
+    public synchronized void recordFrameBlurred() {
+        framesBlurred++;
+    }
+
+    /**
+     * @param latency The time in milliseconds it took the barcode scanner to process the frame.
+     */
+    public synchronized void recordFrameAnalyzed(long latency) {
+        framesAnalyzed++;
+        processLatency.record(latency);
+    }
+
+    public synchronized void recordFrameFailed() {
+        framesFailed++;
+    }
+
+    /**
+     * @param reportedCount The number of barcodes that were reported to the listeners.
+     * @param rejectedCount The number of barcodes that did not have enough votes yet.
+     * @param latency The time in milliseconds from receiving the frame until the listeners were notified.
+     */
+    public synchronized void recordBarcodes(int reportedCount, int rejectedCount, long latency) {
+        barcodesRejected += rejectedCount;
+        if (reportedCount == 0) {
+            return;
+        }
+        barcodesReported += reportedCount;
+        notifyLatency.record(latency);
+        if (timeToFirstRead == -1) {
+            timeToFirstRead = SystemClock.elapsedRealtime() - sessionStartTime;
+        }
+    }
+
+    /**
+     * @param count The number of scan events that were dropped or coalesced by the event queue.
+     */
+    public synchronized void recordEventsDropped(int count) {
+        eventsDropped += count;
+    }
+
+    @NonNull
+    public synchronized GetScanMetricsResult createResult() {
+        return new GetScanMetricsResult(
+            SystemClock.elapsedRealtime() - sessionStartTime,
+            framesReceived,
+            framesSkipped,
+            framesBlurred,
+            framesAnalyzed,
+            framesFailed,
+            barcodesReported,
+            barcodesRejected,
+            eventsDropped,
+            timeToFirstRead == -1 ? null : timeToFirstRead,
+            processLatency.copy(),
+            notifyLatency.copy()
+        );
+    }
+}
@@ -3,13 +3,19 @@
  */
 package io.capawesome.capacitorjs.plugins.mlkit.barcodescanning;
 
+import android.graphics.Rect;
+import android.util.Range;
 import android.util.Size;
 import androidx.annotation.Nullable;
 import androidx.camera.core.CameraSelector;
 import com.google.mlkit.vision.barcode.common.Barcode;
+import java.util.Set;
 
 public class ScanSettings {
 
+    public static final int DEFAULT_FRAME_RECORDING_MAX_COUNT = 100;
+    public static final int MAX_ANALYSIS_THREAD_COUNT = 4;
+
     @Barcode.BarcodeFormat
     public int[] formats = new int[] {};
 
@@ -21,4 +27,102 @@ public class ScanSettings {
     public Integer lensFacing;
 
     public Size resolution;
+
+    /**
+     * The resolution of the preview or `null` to let CameraX choose the resolution.
+     */
+    @Nullable
+    public Size previewResolution;
+
+    /**
+     * The frame rate range that the auto exposure should target or `null` to use the default range of the camera.
+     */
+    @Nullable
+    public Range<Integer> targetFrameRateRange;
+
+    public int analysisThreadCount = 1;
+
+    public int voteThreshold = BarcodeVoteTracker.DEFAULT_THRESHOLD;
+
+    public long voteTimeout = BarcodeVoteTracker.DEFAULT_TIMEOUT;
+
+    public int maxAnalysisFrameRate = 0;
+
+    public boolean adaptiveAnalysisFrameRate = false;
+
+    /**
+     * The region of the screen in which barcodes are scanned.
+     */
+    @Nullable
+    public Rect regionOfInterest;
+
+    public boolean barcodeTracking = false;
+
+    public long barcodeMovedInterval = BarcodeTracker.DEFAULT_MOVED_INTERVAL;
+
+    public long barcodeLeftTimeout = BarcodeTracker.DEFAULT_LEFT_TIMEOUT;
+
+    /**
+     * Whether or not images should be split into overlapping tiles when reading barcodes from an image.
+     */
+    public boolean tiling = false;
+
+    public int tileSize = TiledImageReader.DEFAULT_TILE_SIZE;
+
+    /**
+     * Whether or not only the luminance of the camera frames should be passed to the barcode scanner.
+     */
+    public boolean grayscaleInput = false;
+
+    /**
+     * Whether or not the barcode formats should be narrowed to the formats that were already seen in the scan session.
+     */
+    public boolean adaptiveFormats = false;
+
+    /**
+     * Whether or not the corner points and the region of interest are in CSS pixels instead of physical pixels.
+     */
+    public boolean cornerPointsInCssPixels = false;
+
+    /**
+     * The minimum sharpness of a camera frame to be analyzed or 0 to analyze all frames.
+     */
+    public float minFrameSharpness = 0;
+
+    /**
+     * The interval in milliseconds in which the `scanMetrics` event is emitted or 0 to disable the event.
+     */
+    public long scanMetricsInterval = 0;
+
+    /**
+     * The policy of the queue for the scan events or `null` to notify the listeners directly.
+     */
+    @Nullable
+    public ScanEventQueue.Policy eventQueuePolicy;
+
+    public int eventQueueCapacity = ScanEventQueue.DEFAULT_CAPACITY;
+
+    /**
+     * The file to which the camera frames are recorded or `null` to disable the recording.
+     */
+    @Nullable
+    public String frameRecordingPath;
+
+    public int frameRecordingMaxCount = DEFAULT_FRAME_RECORDING_MAX_COUNT;
+
+    /**
+     * Whether or not the torch should be enabled automatically in low light.
+     */
+    public boolean autoTorch = false;
+
+    /**
+     * Whether or not the exposure compensation should be raised automatically in low light.
+     */
+    public boolean autoExposureCompensation = false;
+
+    /**
+     * The barcode properties to include in the scan events or `null` to include all properties.
+     */
+    @Nullable
+    public Set<String> fields;
 }
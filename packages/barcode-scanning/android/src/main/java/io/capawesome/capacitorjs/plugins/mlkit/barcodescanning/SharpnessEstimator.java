@@ -0,0 +1,44 @@
+package io.capawesome.capacitorjs.plugins.mlkit.barcodescanning;
+
+import android.graphics.Rect;
+import androidx.annotation.NonNull;
+import java.nio.ByteBuffer;
+
+/**
+ * Estimates the sharpness of a camera frame from its luminance (Y) plane.
+ *
+ * The sharpness is the average absolute difference between neighboring pixels, sampled on a sparse grid.
+ * Blurred frames, e.g. caused by hand movement or a camera that is still focusing, have a low sharpness
+ * because their edges are spread over multiple pixels.
+ */
+public class SharpnessEstimator {
+
+    /**
+     * The distance in pixels between two sampled pixels in each direction.
+     */
+    private static final int SAMPLE_STEP = 4;
+
+    /**
+     * Does not allocate and does not change the position of the buffer.
+     *
+     * @param yBuffer The luminance plane with a pixel stride of 1.
+     * @param rowStride The row stride of the luminance plane.
+     * @param region The region of the luminance plane to sample.
+     * @return The sharpness between 0 (uniform) and 510 (maximum contrast).
+     */
+    public static double estimate(@NonNull ByteBuffer yBuffer, int rowStride, @NonNull Rect region) {
+        long gradientSum = 0;
+        int sampleCount = 0;
+        for (int y = region.top + 1; y < region.bottom; y += SAMPLE_STEP) {
+            int rowOffset = y * rowStride;
+            for (int x = region.left + 1; x < region.right; x += SAMPLE_STEP) {
+                int value = yBuffer.get(rowOffset + x) & 0xFF;
+                int left = yBuffer.get(rowOffset + x - 1) & 0xFF;
+                int top = yBuffer.get(rowOffset - rowStride + x) & 0xFF;
+                gradientSum += Math.abs(value - left) + Math.abs(value - top);
+                sampleCount++;
+            }
+        }
+        return sampleCount == 0 ? 0 : (double) gradientSum / sampleCount;
+    }
+}
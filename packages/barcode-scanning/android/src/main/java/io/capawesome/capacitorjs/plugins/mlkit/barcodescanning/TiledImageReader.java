@@ -0,0 +1,354 @@
+package io.capawesome.capacitorjs.plugins.mlkit.barcodescanning;
+
+import android.content.ContentResolver;
+import android.graphics.Bitmap;
+import android.graphics.BitmapFactory;
+import android.graphics.BitmapRegionDecoder;
+import android.graphics.Point;
+import android.graphics.Rect;
+import android.media.ExifInterface;
+import android.net.Uri;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import com.google.android.gms.tasks.Tasks;
+import com.google.mlkit.vision.barcode.common.Barcode;
+import com.google.mlkit.vision.common.InputImage;
+import io.capawesome.capacitorjs.plugins.mlkit.barcodescanning.classes.results.ReadBarcodesFromImageResult;
+import io.capawesome.capacitorjs.plugins.mlkit.barcodescanning.interfaces.NonEmptyResultCallback;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Reads barcodes from a large image by splitting it into overlapping tiles.
+ *
+ * Small barcodes are often missed if the full image is passed to ML Kit at once, because ML Kit downscales it internally.
+ * Each tile is decoded on its own with a `BitmapRegionDecoder`, so at most one tile per worker thread is held in memory.
+ * An additional pass over a downscaled version of the image finds barcodes that are larger than a tile.
+ * A single failed pass is ignored, but the read fails if ML Kit failed on every pass.
+ */
+public class TiledImageReader {
+
+    public static final int DEFAULT_TILE_SIZE = 1024;
+
+    /**
+     * Smaller tiles would multiply the number of detections without finding more barcodes.
+     */
+    public static final int MIN_TILE_SIZE = 256;
+
+    /**
+     * The overlap of two neighboring tiles as a fraction of the tile size.
+     * Barcodes that are smaller than the overlap are always completely contained in at least one tile.
+     */
+    private static final float TILE_OVERLAP = 0.25f;
+
+    @NonNull
+    private final ContentResolver contentResolver;
+
+    @NonNull
+    private final com.google.mlkit.vision.barcode.BarcodeScanner barcodeScannerInstance;
+
+    private final int tileSize;
+    private final int threadCount;
+
+    public TiledImageReader(
+        @NonNull ContentResolver contentResolver,
+        @NonNull com.google.mlkit.vision.barcode.BarcodeScanner barcodeScannerInstance,
+        int tileSize,
+        int threadCount
+    ) {
+        this.contentResolver = contentResolver;
+        this.barcodeScannerInstance = barcodeScannerInstance;
+        this.tileSize = tileSize;
+        this.threadCount = Math.max(1, threadCount);
+    }
+
+    /**
+     * Reads the barcodes in the background and returns their corner points in the coordinates of the upright image.
+     * Barcodes that were found in multiple tiles are only returned once.
+     */
+    public void read(@NonNull Uri uri, @NonNull NonEmptyResultCallback<ReadBarcodesFromImageResult> callback) {
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        executor.execute(() -> {
+            try {
+                int rotationDegrees = readRotationDegrees(uri);
+                BitmapRegionDecoder decoder = createBitmapRegionDecoder(uri);
+                int width = decoder.getWidth();
+                int height = decoder.getHeight();
+                List<Rect> tiles = createTiles(width, height);
+                List<Detection> detections = Collections.synchronizedList(new ArrayList<>());
+                int taskCount = tiles.size() + 1;
+                AtomicInteger remainingTaskCount = new AtomicInteger(taskCount);
+                AtomicInteger failedTaskCount = new AtomicInteger();
+                AtomicReference<Exception> lastException = new AtomicReference<>();
+                Runnable onTaskCompleted = () -> {
+                    if (remainingTaskCount.decrementAndGet() == 0) {
+                        executor.shutdown();
+                        decoder.recycle();
+                        if (failedTaskCount.get() == taskCount) {
+                            callback.error(lastException.get());
+                            return;
+                        }
+                        List<Detection> uniqueDetections = deduplicate(detections);
+                        for (Detection detection : uniqueDetections) {
+                            detection.cornerPoints = rotateCornerPoints(detection.cornerPoints, width, height, rotationDegrees);
+                        }
+                        callback.success(new ReadBarcodesFromImageResult(uniqueDetections));
+                    }
+                };
+                executor.execute(() -> {
+                    try {
+                        readOverview(decoder, width, height, detections);
+                    } catch (Exception exception) {
+                        // Ignore the overview pass if it fails, the tiles may still contain barcodes
+                        failedTaskCount.incrementAndGet();
+                        lastException.set(exception);
+                    } finally {
+                        onTaskCompleted.run();
+                    }
+                });
+                for (Rect tile : tiles) {
+                    executor.execute(() -> {
+                        try {
+                            readTile(decoder, tile, detections);
+                        } catch (Exception exception) {
+                            // Ignore a failed tile, the neighboring tiles and the overview pass may still contain the barcodes
+                            failedTaskCount.incrementAndGet();
+                            lastException.set(exception);
+                        } finally {
+                            onTaskCompleted.run();
+                        }
+                    });
+                }
+            } catch (Exception exception) {
+                executor.shutdown();
+                callback.error(exception);
+            }
+        });
+    }
+
+    @NonNull
+    private List<Rect> createTiles(int width, int height) {
+        List<Rect> tiles = new ArrayList<>();
+        if (width <= tileSize && height <= tileSize) {
+            // The overview pass already covers the image in full resolution
+            return tiles;
+        }
+        int step = Math.max(1, (int) (tileSize * (1 - TILE_OVERLAP)));
+        for (int top = 0; top < height; top += step) {
+            for (int left = 0; left < width; left += step) {
+                tiles.add(new Rect(left, top, Math.min(left + tileSize, width), Math.min(top + tileSize, height)));
+                if (left + tileSize >= width) {
+                    break;
+                }
+            }
+            if (top + tileSize >= height) {
+                break;
+            }
+        }
+        return tiles;
+    }
+
+    /**
+     * Reads the whole image downscaled to at most twice the tile size.
+     */
+    private void readOverview(
+        @NonNull BitmapRegionDecoder decoder,
+        int width,
+        int height,
+        @NonNull List<Detection> detections
+    ) throws Exception {
+        BitmapFactory.Options options = new BitmapFactory.Options();
+        options.inSampleSize = 1;
+        while (Math.max(width, height) / options.inSampleSize > tileSize * 2) {
+            options.inSampleSize *= 2;
+        }
+        Bitmap bitmap = decoder.decodeRegion(new Rect(0, 0, width, height), options);
+        if (bitmap == null) {
+            return;
+        }
+        try {
+            float scale = (float) width / bitmap.getWidth();
+            List<Barcode> barcodes = Tasks.await(barcodeScannerInstance.process(InputImage.fromBitmap(bitmap, 0)));
+            for (Barcode barcode : barcodes) {
+                detections.add(new Detection(barcode, mapCornerPoints(barcode.getCornerPoints(), 0, 0, scale)));
+            }
+        } finally {
+            bitmap.recycle();
+        }
+    }
+
+    private void readTile(@NonNull BitmapRegionDecoder decoder, @NonNull Rect tile, @NonNull List<Detection> detections) throws Exception {
+        Bitmap bitmap = decoder.decodeRegion(tile, null);
+        if (bitmap == null) {
+            return;
+        }
+        try {
+            List<Barcode> barcodes = Tasks.await(barcodeScannerInstance.process(InputImage.fromBitmap(bitmap, 0)));
+            for (Barcode barcode : barcodes) {
+                detections.add(new Detection(barcode, mapCornerPoints(barcode.getCornerPoints(), tile.left, tile.top, 1)));
+            }
+        } finally {
+            bitmap.recycle();
+        }
+    }
+
+    @SuppressWarnings("deprecation")
+    @NonNull
+    private BitmapRegionDecoder createBitmapRegionDecoder(@NonNull Uri uri) throws Exception {
+        BitmapRegionDecoder decoder = null;
+        try (InputStream inputStream = contentResolver.openInputStream(uri)) {
+            if (inputStream != null) {
+                decoder = BitmapRegionDecoder.newInstance(inputStream, false);
+            }
+        } catch (Exception exception) {
+            decoder = null;
+        }
+        if (decoder == null) {
+            throw new Exception(BarcodeScannerPlugin.ERROR_LOAD_IMAGE_FAILED);
+        }
+        return decoder;
+    }
+
+    private int readRotationDegrees(@NonNull Uri uri) {
+        try (InputStream inputStream = contentResolver.openInputStream(uri)) {
+            if (inputStream == null) {
+                return 0;
+            }
+            int orientation = new ExifInterface(inputStream).getAttributeInt(
+                ExifInterface.TAG_ORIENTATION,
+                ExifInterface.ORIENTATION_NORMAL
+            );
+            switch (orientation) {
+                case ExifInterface.ORIENTATION_ROTATE_90:
+                    return 90;
+                case ExifInterface.ORIENTATION_ROTATE_180:
+                    return 180;
+                case ExifInterface.ORIENTATION_ROTATE_270:
+                    return 270;
+                default:
+                    return 0;
+            }
+        } catch (Exception exception) {
+            return 0;
+        }
+    }
+
+    /**
+     * Keeps one detection per raw value, preferring the one with the largest bounding box
+     * since a barcode that is cut off at the edge of a tile may still be detected.
+     */
+    @NonNull
+    private static List<Detection> deduplicate(@NonNull List<Detection> detections) {
+        List<Detection> result = new ArrayList<>();
+        Map<String, Detection> detectionsByRawValue = new LinkedHashMap<>();
+        synchronized (detections) {
+            for (Detection detection : detections) {
+                String rawValue = detection.barcode.getRawValue();
+                if (rawValue == null) {
+                    result.add(detection);
+                    continue;
+                }
+                Detection existingDetection = detectionsByRawValue.get(rawValue);
+                if (existingDetection == null || detection.getArea() > existingDetection.getArea()) {
+                    detectionsByRawValue.put(rawValue, detection);
+                }
+            }
+        }
+        result.addAll(0, detectionsByRawValue.values());
+        return result;
+    }
+
+    @Nullable
+    private static Point[] mapCornerPoints(@Nullable Point[] cornerPoints, int offsetX, int offsetY, float scale) {
+        if (cornerPoints == null) {
+            return null;
+        }
+        Point[] mappedCornerPoints = new Point[cornerPoints.length];
+        for (int i = 0; i < cornerPoints.length; i++) {
+            mappedCornerPoints[i] = new Point(
+                Math.round(cornerPoints[i].x * scale) + offsetX,
+                Math.round(cornerPoints[i].y * scale) + offsetY
+            );
+        }
+        return mappedCornerPoints;
+    }
+
+    /**
+     * Converts the corner points from the coordinates of the stored image to the coordinates of the upright image.
+     */
+    @Nullable
+    private static Point[] rotateCornerPoints(@Nullable Point[] cornerPoints, int width, int height, int rotationDegrees) {
+        if (cornerPoints == null || rotationDegrees == 0) {
+            return cornerPoints;
+        }
+        Point[] rotatedCornerPoints = new Point[cornerPoints.length];
+        for (int i = 0; i < cornerPoints.length; i++) {
+            int x = cornerPoints[i].x;
+            int y = cornerPoints[i].y;
+            switch (rotationDegrees) {
+                case 90:
+                    rotatedCornerPoints[i] = new Point(height - y, x);
+                    break;
+                case 180:
+                    rotatedCornerPoints[i] = new Point(width - x, height - y);
+                    break;
+                default:
+                    rotatedCornerPoints[i] = new Point(y, width - x);
+                    break;
+            }
+        }
+        return rotatedCornerPoints;
+    }
+
+    public static class Detection {
+
+        @NonNull
+        private final Barcode barcode;
+
+        @Nullable
+        private Point[] cornerPoints;
+
+        private Detection(@NonNull Barcode barcode, @Nullable Point[] cornerPoints) {
+            this.barcode = barcode;
+            this.cornerPoints = cornerPoints;
+        }
+
+        @NonNull
+        public Barcode getBarcode() {
+            return barcode;
+        }
+
+        /**
+         * Returns the corner points in the coordinates of the whole image.
+         */
+        @Nullable
+        public Point[] getCornerPoints() {
+            return cornerPoints;
+        }
+
+        private long getArea() {
+            if (cornerPoints == null || cornerPoints.length == 0) {
+                return 0;
+            }
+            int left = Integer.MAX_VALUE;
+            int top = Integer.MAX_VALUE;
+            int right = Integer.MIN_VALUE;
+            int bottom = Integer.MIN_VALUE;
+            for (Point cornerPoint : cornerPoints) {
+                left = Math.min(left, cornerPoint.x);
+                top = Math.min(top, cornerPoint.y);
+                right = Math.max(right, cornerPoint.x);
+                bottom = Math.max(bottom, cornerPoint.y);
+            }
+            return (long) (right - left) * (bottom - top);
+        }
+    }
+}
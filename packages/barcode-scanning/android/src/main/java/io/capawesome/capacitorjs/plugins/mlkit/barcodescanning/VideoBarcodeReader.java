@@ -0,0 +1,207 @@
+package io.capawesome.capacitorjs.plugins.mlkit.barcodescanning;
+
+import android.content.Context;
+import android.media.Image;
+import android.media.MediaCodec;
+import android.media.MediaCodecInfo;
+import android.media.MediaExtractor;
+import android.media.MediaFormat;
+import android.net.Uri;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import com.google.android.gms.tasks.Tasks;
+import com.google.mlkit.vision.barcode.common.Barcode;
+import com.google.mlkit.vision.common.InputImage;
+import io.capawesome.capacitorjs.plugins.mlkit.barcodescanning.classes.events.VideoBarcodesReadEvent;
+import io.capawesome.capacitorjs.plugins.mlkit.barcodescanning.classes.results.ReadBarcodesFromVideoResult;
+import io.capawesome.capacitorjs.plugins.mlkit.barcodescanning.interfaces.NonEmptyResultCallback;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads barcodes from a video file.
+ *
+ * The video is decoded with `MediaCodec` and the decoded YUV frames are passed to ML Kit
+ * without converting them to bitmaps. The frames are sampled at a fixed interval of their presentation time
+ * instead of a fixed frame stride, since the frame rate of a video may vary. The sampled frames go through
+ * the same vote and tracking logic as the camera frames of a scan session.
+ */
+public class VideoBarcodeReader {
+
+    public static final long DEFAULT_FRAME_INTERVAL = 100;
+
+    private static final long DEQUEUE_TIMEOUT_US = 10_000;
+
+    public interface FrameListener {
+        void onFrameRead(@NonNull VideoBarcodesReadEvent event);
+    }
+
+    @NonNull
+    private final Context context;
+
+    @NonNull
+    private final com.google.mlkit.vision.barcode.BarcodeScanner barcodeScannerInstance;
+
+    private final long frameInterval;
+
+    @NonNull
+    private final BarcodeVoteTracker barcodeVoteTracker;
+
+    @NonNull
+    private final BarcodeTracker barcodeTracker;
+
+    @NonNull
+    private final FrameListener frameListener;
+
+    /**
+     * @param frameInterval The minimum time in milliseconds between two analyzed frames of the video.
+     */
+    public VideoBarcodeReader(
+        @NonNull Context context,
+        @NonNull com.google.mlkit.vision.barcode.BarcodeScanner barcodeScannerInstance,
+        long frameInterval,
+        @NonNull BarcodeVoteTracker barcodeVoteTracker,
+        @NonNull BarcodeTracker barcodeTracker,
+        @NonNull FrameListener frameListener
+    ) {
+        this.context = context;
+        this.barcodeScannerInstance = barcodeScannerInstance;
+        this.frameInterval = Math.max(0, frameInterval);
+        this.barcodeVoteTracker = barcodeVoteTracker;
+        this.barcodeVoteTracker.setFrameInterval(this.frameInterval);
+        this.barcodeTracker = barcodeTracker;
+        this.barcodeTracker.setFrameInterval(this.frameInterval);
+        this.frameListener = frameListener;
+    }
+
+    /**
+     * Reads the barcodes in the background.
+     * The barcodes of each analyzed frame are passed to the frame listener as soon as the frame has been processed.
+     */
+    public void read(@NonNull Uri uri, @NonNull NonEmptyResultCallback<ReadBarcodesFromVideoResult> callback) {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        executor.execute(() -> {
+            MediaExtractor extractor = new MediaExtractor();
+            MediaCodec codec = null;
+            try {
+                MediaFormat format;
+                try {
+                    extractor.setDataSource(context, uri, null);
+                    format = selectVideoTrack(extractor);
+                } catch (Exception exception) {
+                    format = null;
+                }
+                if (format == null) {
+                    throw new Exception(BarcodeScannerPlugin.ERROR_LOAD_VIDEO_FAILED);
+                }
+                int rotationDegrees = format.containsKey(MediaFormat.KEY_ROTATION) ? format.getInteger(MediaFormat.KEY_ROTATION) : 0;
+                format.setInteger(MediaFormat.KEY_COLOR_FORMAT, MediaCodecInfo.CodecCapabilities.COLOR_FormatYUV420Flexible);
+                codec = MediaCodec.createDecoderByType(format.getString(MediaFormat.KEY_MIME));
+                codec.configure(format, null, null, 0);
+                codec.start();
+                callback.success(decode(extractor, codec, rotationDegrees));
+            } catch (Throwable throwable) {
+                // Also catch errors like `OutOfMemoryError`, the call must settle in any case
+                callback.error(toException(throwable));
+            } finally {
+                if (codec != null) {
+                    try {
+                        codec.stop();
+                    } catch (Exception exception) {
+                        // Ignore, the codec may not have been started
+                    }
+                    codec.release();
+                }
+                extractor.release();
+                executor.shutdown();
+            }
+        });
+    }
+
+    @NonNull
+    private ReadBarcodesFromVideoResult decode(@NonNull MediaExtractor extractor, @NonNull MediaCodec codec, int rotationDegrees)
+        throws Exception {
+        MediaCodec.BufferInfo bufferInfo = new MediaCodec.BufferInfo();
+        boolean isInputDone = false;
+        boolean isOutputDone = false;
+        long nextFrameTime = 0;
+        long lastFrameTime = 0;
+        int frameCount = 0;
+        int barcodeCount = 0;
+        while (!isOutputDone) {
+            if (!isInputDone) {
+                int inputBufferIndex = codec.dequeueInputBuffer(DEQUEUE_TIMEOUT_US);
+                if (inputBufferIndex >= 0) {
+                    ByteBuffer inputBuffer = codec.getInputBuffer(inputBufferIndex);
+                    int sampleSize = inputBuffer == null ? -1 : extractor.readSampleData(inputBuffer, 0);
+                    if (sampleSize < 0) {
+                        codec.queueInputBuffer(inputBufferIndex, 0, 0, 0, MediaCodec.BUFFER_FLAG_END_OF_STREAM);
+                        isInputDone = true;
+                    } else {
+                        codec.queueInputBuffer(inputBufferIndex, 0, sampleSize, extractor.getSampleTime(), 0);
+                        extractor.advance();
+                    }
+                }
+            }
+            int outputBufferIndex = codec.dequeueOutputBuffer(bufferInfo, DEQUEUE_TIMEOUT_US);
+            if (outputBufferIndex < 0) {
+                continue;
+            }
+            if ((bufferInfo.flags & MediaCodec.BUFFER_FLAG_END_OF_STREAM) != 0) {
+                isOutputDone = true;
+            }
+            long timestamp = TimeUnit.MICROSECONDS.toMillis(bufferInfo.presentationTimeUs);
+            lastFrameTime = Math.max(lastFrameTime, timestamp);
+            if (bufferInfo.size == 0 || timestamp < nextFrameTime) {
+                // Skip the frame
+                codec.releaseOutputBuffer(outputBufferIndex, false);
+                continue;
+            }
+            nextFrameTime = timestamp + frameInterval;
+            Image image = codec.getOutputImage(outputBufferIndex);
+            List<Barcode> barcodes = null;
+            try {
+                if (image != null) {
+                    barcodes = Tasks.await(barcodeScannerInstance.process(InputImage.fromMediaImage(image, rotationDegrees)));
+                }
+            } finally {
+                if (image != null) {
+                    image.close();
+                }
+                codec.releaseOutputBuffer(outputBufferIndex, false);
+            }
+            if (barcodes == null) {
+                continue;
+            }
+            frameCount++;
+            List<Barcode> barcodesWithEnoughVotes = barcodeVoteTracker.vote(barcodes, timestamp);
+            BarcodeTracker.Update update = barcodeTracker.update(barcodesWithEnoughVotes, timestamp);
+            barcodeCount += update.entered.size();
+            if (!update.seen.isEmpty()) {
+                frameListener.onFrameRead(new VideoBarcodesReadEvent(timestamp, update.seen));
+            }
+        }
+        return new ReadBarcodesFromVideoResult(frameCount, barcodeCount, lastFrameTime);
+    }
+
+    @NonNull
+    private static Exception toException(@NonNull Throwable throwable) {
+        return throwable instanceof Exception ? (Exception) throwable : new Exception(throwable.getMessage(), throwable);
+    }
+
+    @Nullable
+    private static MediaFormat selectVideoTrack(@NonNull MediaExtractor extractor) {
+        for (int i = 0; i < extractor.getTrackCount(); i++) {
+            MediaFormat format = extractor.getTrackFormat(i);
+            String mimeType = format.getString(MediaFormat.KEY_MIME);
+            if (mimeType != null && mimeType.startsWith("video/")) {
+                extractor.selectTrack(i);
+                return format;
+            }
+        }
+        return null;
+    }
+}
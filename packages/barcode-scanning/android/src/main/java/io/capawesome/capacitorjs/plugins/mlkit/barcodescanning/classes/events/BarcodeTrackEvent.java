@@ -0,0 +1,33 @@
+package io.capawesome.capacitorjs.plugins.mlkit.barcodescanning.classes.events;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import com.getcapacitor.JSObject;
+import io.capawesome.capacitorjs.plugins.mlkit.barcodescanning.interfaces.Result;
+
+public class BarcodeTrackEvent implements Result {
+
+    private final int trackId;
+
+    @Nullable
+    private final JSObject barcode;
+
+    /**
+     * @param barcode The barcode result or `null` if the barcode has left the camera view.
+     */
+    public BarcodeTrackEvent(int trackId, @Nullable JSObject barcode) {
+        this.trackId = trackId;
+        this.barcode = barcode;
+    }
+
+    @Override
+    @NonNull
+    public JSObject toJSObject() {
+        JSObject result = new JSObject();
+        if (barcode != null) {
+            result.put("barcode", barcode);
+        }
+        result.put("trackId", trackId);
+        return result;
+    }
+}
@@ -0,0 +1,60 @@
+package io.capawesome.capacitorjs.plugins.mlkit.barcodescanning.classes.events;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import com.getcapacitor.JSArray;
+import com.getcapacitor.JSObject;
+import com.google.mlkit.vision.barcode.common.Barcode;
+import io.capawesome.capacitorjs.plugins.mlkit.barcodescanning.BarcodeScannerHelper;
+import io.capawesome.capacitorjs.plugins.mlkit.barcodescanning.interfaces.Result;
+import java.util.List;
+
+public class ImageBarcodesReadEvent implements Result {
+
+    @NonNull
+    private final String batchId;
+
+    private final int index;
+
+    @NonNull
+    private final String path;
+
+    @NonNull
+    private final List<Barcode> barcodes;
+
+    @Nullable
+    private final String errorMessage;
+
+    public ImageBarcodesReadEvent(
+        @NonNull String batchId,
+        int index,
+        @NonNull String path,
+        @NonNull List<Barcode> barcodes,
+        @Nullable String errorMessage
+    ) {
+        this.batchId = batchId;
+        this.index = index;
+        this.path = path;
+        this.barcodes = barcodes;
+        this.errorMessage = errorMessage;
+    }
+
+    @Override
+    @NonNull
+    public JSObject toJSObject() {
+        JSArray barcodesResult = new JSArray();
+        for (Barcode barcode : barcodes) {
+            barcodesResult.put(BarcodeScannerHelper.createBarcodeResultForBarcode(barcode, null, null));
+        }
+
+        JSObject result = new JSObject();
+        result.put("barcodes", barcodesResult);
+        result.put("batchId", batchId);
+        if (errorMessage != null) {
+            result.put("errorMessage", errorMessage);
+        }
+        result.put("index", index);
+        result.put("path", path);
+        return result;
+    }
+}
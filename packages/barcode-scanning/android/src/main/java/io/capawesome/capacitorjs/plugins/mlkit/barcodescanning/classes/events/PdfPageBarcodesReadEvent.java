@@ -0,0 +1,44 @@
+package io.capawesome.capacitorjs.plugins.mlkit.barcodescanning.classes.events;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import com.getcapacitor.JSArray;
+import com.getcapacitor.JSObject;
+import com.google.mlkit.vision.barcode.common.Barcode;
+import io.capawesome.capacitorjs.plugins.mlkit.barcodescanning.BarcodeScannerHelper;
+import io.capawesome.capacitorjs.plugins.mlkit.barcodescanning.interfaces.Result;
+import java.util.List;
+
+public class PdfPageBarcodesReadEvent implements Result {
+
+    private final int pageIndex;
+
+    @NonNull
+    private final List<Barcode> barcodes;
+
+    @Nullable
+    private final String errorMessage;
+
+    public PdfPageBarcodesReadEvent(int pageIndex, @NonNull List<Barcode> barcodes, @Nullable String errorMessage) {
+        this.pageIndex = pageIndex;
+        this.barcodes = barcodes;
+        this.errorMessage = errorMessage;
+    }
+
+    @Override
+    @NonNull
+    public JSObject toJSObject() {
+        JSArray barcodesResult = new JSArray();
+        for (Barcode barcode : barcodes) {
+            barcodesResult.put(BarcodeScannerHelper.createBarcodeResultForBarcode(barcode, null, null));
+        }
+
+        JSObject result = new JSObject();
+        result.put("barcodes", barcodesResult);
+        if (errorMessage != null) {
+            result.put("errorMessage", errorMessage);
+        }
+        result.put("pageIndex", pageIndex);
+        return result;
+    }
+}
@@ -0,0 +1,50 @@
+package io.capawesome.capacitorjs.plugins.mlkit.barcodescanning.classes.events;
+
+import androidx.annotation.NonNull;
+import com.getcapacitor.JSArray;
+import com.getcapacitor.JSObject;
+import com.google.mlkit.vision.barcode.common.Barcode;
+import io.capawesome.capacitorjs.plugins.mlkit.barcodescanning.BarcodeScannerHelper;
+import io.capawesome.capacitorjs.plugins.mlkit.barcodescanning.BarcodeTracker;
+import io.capawesome.capacitorjs.plugins.mlkit.barcodescanning.interfaces.Result;
+import java.util.ArrayList;
+import java.util.List;
+
+public class VideoBarcodesReadEvent implements Result {
+
+    private final long timestamp;
+
+    @NonNull
+    private final List<Barcode> barcodes = new ArrayList<>();
+
+    @NonNull
+    private final List<Integer> trackIds = new ArrayList<>();
+
+    public VideoBarcodesReadEvent(long timestamp, @NonNull List<BarcodeTracker.Track> tracks) {
+        this.timestamp = timestamp;
+        // The tracks are updated with the next frame, so their current state is copied
+        for (BarcodeTracker.Track track : tracks) {
+            this.barcodes.add(track.getBarcode());
+            this.trackIds.add(track.getId());
+        }
+    }
+
+    @Override
+    @NonNull
+    public JSObject toJSObject() {
+        JSArray barcodesResult = new JSArray();
+        for (Barcode barcode : barcodes) {
+            barcodesResult.put(BarcodeScannerHelper.createBarcodeResultForBarcode(barcode, null, null));
+        }
+        JSArray trackIdsResult = new JSArray();
+        for (int trackId : trackIds) {
+            trackIdsResult.put(trackId);
+        }
+
+        JSObject result = new JSObject();
+        result.put("barcodes", barcodesResult);
+        result.put("timestamp", timestamp);
+        result.put("trackIds", trackIdsResult);
+        return result;
+    }
+}
@@ -0,0 +1,28 @@
+package io.capawesome.capacitorjs.plugins.mlkit.barcodescanning.classes.options;
+
+import androidx.annotation.NonNull;
+import com.getcapacitor.JSArray;
+import com.getcapacitor.PluginCall;
+import io.capawesome.capacitorjs.plugins.mlkit.barcodescanning.BarcodeScannerHelper;
+import java.util.List;
+
+public class PrepareScanOptions {
+
+    @NonNull
+    private final int[] formats;
+
+    public PrepareScanOptions(@NonNull PluginCall call) throws Exception {
+        this.formats = PrepareScanOptions.getFormatsFromCall(call);
+    }
+
+    @NonNull
+    public int[] getFormats() {
+        return formats;
+    }
+
+    @NonNull
+    private static int[] getFormatsFromCall(@NonNull PluginCall call) throws Exception {
+        List<String> formats = call.getArray("formats", new JSArray()).toList();
+        return BarcodeScannerHelper.convertStringsToBarcodeScannerFormats(formats.toArray(new String[0]));
+    }
+}
@@ -0,0 +1,64 @@
+package io.capawesome.capacitorjs.plugins.mlkit.barcodescanning.classes.options;
+
+import androidx.annotation.NonNull;
+import com.getcapacitor.JSArray;
+import com.getcapacitor.PluginCall;
+import io.capawesome.capacitorjs.plugins.mlkit.barcodescanning.BarcodeScannerHelper;
+import io.capawesome.capacitorjs.plugins.mlkit.barcodescanning.BarcodeScannerPlugin;
+import java.util.List;
+import java.util.UUID;
+
+public class ReadBarcodesFromImagesOptions {
+
+    @NonNull
+    private final String batchId;
+
+    @NonNull
+    private final int[] formats;
+
+    @NonNull
+    private final List<String> paths;
+
+    public ReadBarcodesFromImagesOptions(@NonNull PluginCall call) throws Exception {
+        this.batchId = ReadBarcodesFromImagesOptions.getBatchIdFromCall(call);
+        this.formats = ReadBarcodesFromImagesOptions.getFormatsFromCall(call);
+        this.paths = ReadBarcodesFromImagesOptions.getPathsFromCall(call);
+    }
+
+    @NonNull
+    public String getBatchId() {
+        return batchId;
+    }
+
+    @NonNull
+    public int[] getFormats() {
+        return formats;
+    }
+
+    @NonNull
+    public List<String> getPaths() {
+        return paths;
+    }
+
+    @NonNull
+    private static String getBatchIdFromCall(@NonNull PluginCall call) {
+        String batchId = call.getString("batchId");
+        // A generated ID still tells the events of overlapping calls apart
+        return batchId == null ? UUID.randomUUID().toString() : batchId;
+    }
+
+    @NonNull
+    private static int[] getFormatsFromCall(@NonNull PluginCall call) throws Exception {
+        List<String> formats = call.getArray("formats", new JSArray()).toList();
+        return BarcodeScannerHelper.convertStringsToBarcodeScannerFormats(formats.toArray(new String[0]));
+    }
+
+    @NonNull
+    private static List<String> getPathsFromCall(@NonNull PluginCall call) throws Exception {
+        JSArray pathsArray = call.getArray("paths");
+        if (pathsArray == null) {
+            throw new Exception(BarcodeScannerPlugin.ERROR_PATHS_MISSING);
+        }
+        return pathsArray.toList();
+    }
+}
@@ -0,0 +1,60 @@
+package io.capawesome.capacitorjs.plugins.mlkit.barcodescanning.classes.options;
+
+import androidx.annotation.NonNull;
+import com.getcapacitor.JSArray;
+import com.getcapacitor.PluginCall;
+import io.capawesome.capacitorjs.plugins.mlkit.barcodescanning.BarcodeScannerHelper;
+import io.capawesome.capacitorjs.plugins.mlkit.barcodescanning.BarcodeScannerPlugin;
+import io.capawesome.capacitorjs.plugins.mlkit.barcodescanning.PdfBarcodeReader;
+import java.util.List;
+
+public class ReadBarcodesFromPdfOptions {
+
+    private final int dpi;
+
+    @NonNull
+    private final int[] formats;
+
+    @NonNull
+    private final String path;
+
+    public ReadBarcodesFromPdfOptions(@NonNull PluginCall call) throws Exception {
+        this.dpi = ReadBarcodesFromPdfOptions.getDpiFromCall(call);
+        this.formats = ReadBarcodesFromPdfOptions.getFormatsFromCall(call);
+        this.path = ReadBarcodesFromPdfOptions.getPathFromCall(call);
+    }
+
+    public int getDpi() {
+        return dpi;
+    }
+
+    @NonNull
+    public int[] getFormats() {
+        return formats;
+    }
+
+    @NonNull
+    public String getPath() {
+        return path;
+    }
+
+    private static int getDpiFromCall(@NonNull PluginCall call) {
+        int dpi = call.getInt("dpi", PdfBarcodeReader.DEFAULT_DPI);
+        return dpi > 0 ? dpi : PdfBarcodeReader.DEFAULT_DPI;
+    }
+
+    @NonNull
+    private static int[] getFormatsFromCall(@NonNull PluginCall call) throws Exception {
+        List<String> formats = call.getArray("formats", new JSArray()).toList();
+        return BarcodeScannerHelper.convertStringsToBarcodeScannerFormats(formats.toArray(new String[0]));
+    }
+
+    @NonNull
+    private static String getPathFromCall(@NonNull PluginCall call) throws Exception {
+        String path = call.getString("path");
+        if (path == null) {
+            throw new Exception(BarcodeScannerPlugin.ERROR_PATH_MISSING);
+        }
+        return path;
+    }
+}
@@ -0,0 +1,72 @@
+package io.capawesome.capacitorjs.plugins.mlkit.barcodescanning.classes.options;
+
+import androidx.annotation.NonNull;
+import com.getcapacitor.JSArray;
+import com.getcapacitor.PluginCall;
+import io.capawesome.capacitorjs.plugins.mlkit.barcodescanning.BarcodeScannerHelper;
+import io.capawesome.capacitorjs.plugins.mlkit.barcodescanning.BarcodeScannerPlugin;
+import io.capawesome.capacitorjs.plugins.mlkit.barcodescanning.BarcodeVoteTracker;
+import io.capawesome.capacitorjs.plugins.mlkit.barcodescanning.VideoBarcodeReader;
+import java.util.List;
+
+public class ReadBarcodesFromVideoOptions {
+
+    public static final int DEFAULT_VOTE_THRESHOLD = 2;
+
+    @NonNull
+    private final int[] formats;
+
+    private final long frameInterval;
+
+    @NonNull
+    private final String path;
+
+    private final int voteThreshold;
+
+    private final long voteTimeout;
+
+    public ReadBarcodesFromVideoOptions(@NonNull PluginCall call) throws Exception {
+        this.formats = ReadBarcodesFromVideoOptions.getFormatsFromCall(call);
+        this.frameInterval = call.getInt("frameInterval", (int) VideoBarcodeReader.DEFAULT_FRAME_INTERVAL);
+        this.path = ReadBarcodesFromVideoOptions.getPathFromCall(call);
+        this.voteThreshold = call.getInt("voteThreshold", DEFAULT_VOTE_THRESHOLD);
+        this.voteTimeout = call.getInt("voteTimeout", (int) BarcodeVoteTracker.DEFAULT_TIMEOUT);
+    }
+
+    @NonNull
+    public int[] getFormats() {
+        return formats;
+    }
+
+    public long getFrameInterval() {
+        return frameInterval;
+    }
+
+    @NonNull
+    public String getPath() {
+        return path;
+    }
+
+    public int getVoteThreshold() {
+        return voteThreshold;
+    }
+
+    public long getVoteTimeout() {
+        return voteTimeout;
+    }
+
+    @NonNull
+    private static int[] getFormatsFromCall(@NonNull PluginCall call) throws Exception {
+        List<String> formats = call.getArray("formats", new JSArray()).toList();
+        return BarcodeScannerHelper.convertStringsToBarcodeScannerFormats(formats.toArray(new String[0]));
+    }
+
+    @NonNull
+    private static String getPathFromCall(@NonNull PluginCall call) throws Exception {
+        String path = call.getString("path");
+        if (path == null) {
+            throw new Exception(BarcodeScannerPlugin.ERROR_PATH_MISSING);
+        }
+        return path;
+    }
+}
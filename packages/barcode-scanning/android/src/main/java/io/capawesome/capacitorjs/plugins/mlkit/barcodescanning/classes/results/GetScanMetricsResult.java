@@ -0,0 +1,78 @@
+package io.capawesome.capacitorjs.plugins.mlkit.barcodescanning.classes.results;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import com.getcapacitor.JSObject;
+import io.capawesome.capacitorjs.plugins.mlkit.barcodescanning.LatencyHistogram;
+import io.capawesome.capacitorjs.plugins.mlkit.barcodescanning.interfaces.Result;
+
+public class GetScanMetricsResult implements Result {
+
+    private final long duration;
+    private final long framesReceived;
+    private final long framesSkipped;
+    private final long framesBlurred;
+    private final long framesAnalyzed;
+    private final long framesFailed;
+    private final long barcodesReported;
+    private final long barcodesRejected;
+    private final long eventsDropped;
+
+    @Nullable
+    private final Long timeToFirstRead;
+
+    @NonNull
+    private final LatencyHistogram processLatency;
+
+    @NonNull
+    private final LatencyHistogram notifyLatency;
+
+    public GetScanMetricsResult(
+        long duration,
+        long framesReceived,
+        long framesSkipped,
+        long framesBlurred,
+        long framesAnalyzed,
+        long framesFailed,
+        long barcodesReported,
+        long barcodesRejected,
+        long eventsDropped,
+        @Nullable Long timeToFirstRead,
+        @NonNull LatencyHistogram processLatency,
+        @NonNull LatencyHistogram notifyLatency
+    ) {
+        this.duration = duration;
+        this.framesReceived = framesReceived;
+        this.framesSkipped = framesSkipped;
+        this.framesBlurred = framesBlurred;
+        this.framesAnalyzed = framesAnalyzed;
+        this.framesFailed = framesFailed;
+        this.barcodesReported = barcodesReported;
+        this.barcodesRejected = barcodesRejected;
+        this.eventsDropped = eventsDropped;
+        this.timeToFirstRead = timeToFirstRead;
+        this.processLatency = processLatency;
+        this.notifyLatency = notifyLatency;
+    }
+
+    @Override
+    @NonNull
+    public JSObject toJSObject() {
+        JSObject result = new JSObject();
+        result.put("barcodesRejected", barcodesRejected);
+        result.put("barcodesReported", barcodesReported);
+        result.put("duration", duration);
+        result.put("eventsDropped", eventsDropped);
+        result.put("framesAnalyzed", framesAnalyzed);
+        result.put("framesBlurred", framesBlurred);
+        result.put("framesFailed", framesFailed);
+        result.put("framesReceived", framesReceived);
+        result.put("framesSkipped", framesSkipped);
+        result.put("notifyLatency", notifyLatency.toJSObject());
+        result.put("processLatency", processLatency.toJSObject());
+        if (timeToFirstRead != null) {
+            result.put("timeToFirstRead", timeToFirstRead);
+        }
+        return result;
+    }
+}
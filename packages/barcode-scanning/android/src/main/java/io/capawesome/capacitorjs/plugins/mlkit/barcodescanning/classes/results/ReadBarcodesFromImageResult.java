@@ -0,0 +1,39 @@
+package io.capawesome.capacitorjs.plugins.mlkit.barcodescanning.classes.results;
+
+import androidx.annotation.NonNull;
+import com.getcapacitor.JSArray;
+import com.getcapacitor.JSObject;
+import io.capawesome.capacitorjs.plugins.mlkit.barcodescanning.BarcodeScannerHelper;
+import io.capawesome.capacitorjs.plugins.mlkit.barcodescanning.TiledImageReader;
+import io.capawesome.capacitorjs.plugins.mlkit.barcodescanning.interfaces.Result;
+import java.util.List;
+
+public class ReadBarcodesFromImageResult implements Result {
+
+    @NonNull
+    private final List<TiledImageReader.Detection> detections;
+
+    public ReadBarcodesFromImageResult(@NonNull List<TiledImageReader.Detection> detections) {
+        this.detections = detections;
+    }
+
+    @Override
+    @NonNull
+    public JSObject toJSObject() {
+        JSArray barcodesResult = new JSArray();
+        for (TiledImageReader.Detection detection : detections) {
+            JSObject barcodeResult = BarcodeScannerHelper.createBarcodeResultForBarcode(detection.getBarcode(), null, null);
+            if (detection.getCornerPoints() == null) {
+                barcodeResult.remove("cornerPoints");
+            } else {
+                // Replace the corner points of the tile with the corner points of the whole image
+                barcodeResult.put("cornerPoints", BarcodeScannerHelper.createCornerPointsResult(detection.getCornerPoints(), null, null));
+            }
+            barcodesResult.put(barcodeResult);
+        }
+
+        JSObject result = new JSObject();
+        result.put("barcodes", barcodesResult);
+        return result;
+    }
+}
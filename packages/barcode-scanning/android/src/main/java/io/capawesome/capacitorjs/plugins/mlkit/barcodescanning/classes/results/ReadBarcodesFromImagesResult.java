@@ -0,0 +1,34 @@
+package io.capawesome.capacitorjs.plugins.mlkit.barcodescanning.classes.results;
+
+import androidx.annotation.NonNull;
+import com.getcapacitor.JSObject;
+import io.capawesome.capacitorjs.plugins.mlkit.barcodescanning.interfaces.Result;
+
+public class ReadBarcodesFromImagesResult implements Result {
+
+    private final int barcodeCount;
+
+    @NonNull
+    private final String batchId;
+
+    private final int failedImageCount;
+    private final int imageCount;
+
+    public ReadBarcodesFromImagesResult(@NonNull String batchId, int imageCount, int failedImageCount, int barcodeCount) {
+        this.batchId = batchId;
+        this.imageCount = imageCount;
+        this.failedImageCount = failedImageCount;
+        this.barcodeCount = barcodeCount;
+    }
+
+    @Override
+    @NonNull
+    public JSObject toJSObject() {
+        JSObject result = new JSObject();
+        result.put("barcodeCount", barcodeCount);
+        result.put("batchId", batchId);
+        result.put("failedImageCount", failedImageCount);
+        result.put("imageCount", imageCount);
+        return result;
+    }
+}
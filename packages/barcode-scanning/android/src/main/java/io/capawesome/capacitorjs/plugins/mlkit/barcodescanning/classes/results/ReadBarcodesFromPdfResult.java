@@ -0,0 +1,28 @@
+package io.capawesome.capacitorjs.plugins.mlkit.barcodescanning.classes.results;
+
+import androidx.annotation.NonNull;
+import com.getcapacitor.JSObject;
+import io.capawesome.capacitorjs.plugins.mlkit.barcodescanning.interfaces.Result;
+
+public class ReadBarcodesFromPdfResult implements Result {
+
+    private final int barcodeCount;
+    private final int failedPageCount;
+    private final int pageCount;
+
+    public ReadBarcodesFromPdfResult(int pageCount, int failedPageCount, int barcodeCount) {
+        this.pageCount = pageCount;
+        this.failedPageCount = failedPageCount;
+        this.barcodeCount = barcodeCount;
+    }
+
+    @Override
+    @NonNull
+    public JSObject toJSObject() {
+        JSObject result = new JSObject();
+        result.put("barcodeCount", barcodeCount);
+        result.put("failedPageCount", failedPageCount);
+        result.put("pageCount", pageCount);
+        return result;
+    }
+}
@@ -0,0 +1,28 @@
+package io.capawesome.capacitorjs.plugins.mlkit.barcodescanning.classes.results;
+
+import androidx.annotation.NonNull;
+import com.getcapacitor.JSObject;
+import io.capawesome.capacitorjs.plugins.mlkit.barcodescanning.interfaces.Result;
+
+public class ReadBarcodesFromVideoResult implements Result {
+
+    private final int barcodeCount;
+    private final long duration;
+    private final int frameCount;
+
+    public ReadBarcodesFromVideoResult(int frameCount, int barcodeCount, long duration) {
+        this.frameCount = frameCount;
+        this.barcodeCount = barcodeCount;
+        this.duration = duration;
+    }
+
+    @Override
+    @NonNull
+    public JSObject toJSObject() {
+        JSObject result = new JSObject();
+        result.put("barcodeCount", barcodeCount);
+        result.put("duration", duration);
+        result.put("frameCount", frameCount);
+        return result;
+    }
+}
@@ -0,0 +1,200 @@
+package io.capawesome.capacitorjs.plugins.mlkit.barcodescanning;
+
+import static org.junit.Assert.*;
+
+import android.media.Image;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Covers the file format that is shared by `FrameRecorder` and `FrameReplaySource`.
+ */
+public class FrameRecorderTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void recordAndReplayFrames() throws Exception {
+        File file = temporaryFolder.newFile();
+        FakeFrame firstFrame = new FakeFrame(4, 3, 6, 90, 1000);
+        FakeFrame secondFrame = new FakeFrame(2, 2, 2, 0, 1033);
+        FrameRecorder frameRecorder = new FrameRecorder(new FileOutputStream(file), 10);
+        frameRecorder.record(firstFrame);
+        frameRecorder.record(secondFrame);
+        frameRecorder.close();
+
+        FrameReplaySource source = new FrameReplaySource(new FileInputStream(file));
+        assertFrameEquals(firstFrame, source.next());
+        assertFrameEquals(secondFrame, source.next());
+        assertNull(source.next());
+        source.close();
+    }
+
+    @Test
+    public void recordResetsBufferPosition() throws Exception {
+        FakeFrame frame = new FakeFrame(4, 3, 6, 0, 0);
+        FrameRecorder frameRecorder = new FrameRecorder(new FileOutputStream(temporaryFolder.newFile()), 10);
+        frameRecorder.record(frame);
+        frameRecorder.close();
+
+        assertEquals(0, frame.getLuminanceBuffer().position());
+    }
+
+    @Test
+    public void recordIgnoresFramesAboveMaxFrameCount() throws Exception {
+        File file = temporaryFolder.newFile();
+        FrameRecorder frameRecorder = new FrameRecorder(new FileOutputStream(file), 1);
+        frameRecorder.record(new FakeFrame(2, 2, 2, 0, 0));
+        frameRecorder.record(new FakeFrame(2, 2, 2, 0, 33));
+        frameRecorder.close();
+
+        FrameReplaySource source = new FrameReplaySource(new FileInputStream(file));
+        assertNotNull(source.next());
+        assertNull(source.next());
+        source.close();
+    }
+
+    @Test(expected = IOException.class)
+    public void rejectsUnknownHeader() throws Exception {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        DataOutputStream dataOutputStream = new DataOutputStream(outputStream);
+        dataOutputStream.writeInt(FrameRecorder.MAGIC);
+        dataOutputStream.writeInt(FrameRecorder.VERSION + 1);
+        new FrameReplaySource(new ByteArrayInputStream(outputStream.toByteArray()));
+    }
+
+    @Test(expected = IOException.class)
+    public void rejectsNegativeFrameSize() throws Exception {
+        createSource(-1, 2, 0).next();
+    }
+
+    @Test(expected = IOException.class)
+    public void rejectsHugeFrameSize() throws Exception {
+        createSource(65536, 65536, 0).next();
+    }
+
+    @Test(expected = IOException.class)
+    public void rejectsInvalidRotation() throws Exception {
+        createSource(2, 2, 45).next();
+    }
+
+    @Test(expected = IOException.class)
+    public void rejectsTruncatedFrame() throws Exception {
+        // Only the header of the frame is written, but not its luminance
+        createSource(2, 2, 0).next();
+    }
+
+    @NonNull
+    private static FrameReplaySource createSource(int width, int height, int rotationDegrees) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        DataOutputStream dataOutputStream = new DataOutputStream(outputStream);
+        dataOutputStream.writeInt(FrameRecorder.MAGIC);
+        dataOutputStream.writeInt(FrameRecorder.VERSION);
+        dataOutputStream.writeInt(width);
+        dataOutputStream.writeInt(height);
+        dataOutputStream.writeInt(rotationDegrees);
+        dataOutputStream.writeLong(0);
+        return new FrameReplaySource(new ByteArrayInputStream(outputStream.toByteArray()));
+    }
+
+    private static void assertFrameEquals(@NonNull FakeFrame expected, @Nullable FrameReplaySource.RecordedFrame actual) {
+        assertNotNull(actual);
+        assertEquals(expected.getWidth(), actual.getWidth());
+        assertEquals(expected.getHeight(), actual.getHeight());
+        assertEquals(expected.getRotationDegrees(), actual.getRotationDegrees());
+        assertEquals(expected.getTimestamp(), actual.getTimestamp());
+        assertEquals(expected.getWidth(), actual.getLuminanceRowStride());
+        ByteBuffer buffer = actual.getLuminanceBuffer();
+        for (int y = 0; y < expected.getHeight(); y++) {
+            for (int x = 0; x < expected.getWidth(); x++) {
+                assertEquals(FakeFrame.getLuminance(x, y), buffer.get(y * actual.getLuminanceRowStride() + x));
+            }
+        }
+    }
+
+    /**
+     * A frame whose rows are padded like the Y plane of a camera frame.
+     */
+    private static class FakeFrame implements AnalysisFrame {
+
+        private final int width;
+        private final int height;
+        private final int rowStride;
+        private final int rotationDegrees;
+        private final long timestamp;
+
+        @NonNull
+        private final ByteBuffer luminanceBuffer;
+
+        private FakeFrame(int width, int height, int rowStride, int rotationDegrees, long timestamp) {
+            this.width = width;
+            this.height = height;
+            this.rowStride = rowStride;
+            this.rotationDegrees = rotationDegrees;
+            this.timestamp = timestamp;
+            this.luminanceBuffer = ByteBuffer.allocateDirect(rowStride * height);
+            for (int y = 0; y < height; y++) {
+                for (int x = 0; x < rowStride; x++) {
+                    // The padding must not end up in the recording
+                    luminanceBuffer.put(y * rowStride + x, x < width ? getLuminance(x, y) : (byte) 0xFF);
+                }
+            }
+        }
+
+        private static byte getLuminance(int x, int y) {
+            return (byte) (y * 16 + x);
+        }
+
+        @Override
+        public int getWidth() {
+            return width;
+        }
+
+        @Override
+        public int getHeight() {
+            return height;
+        }
+
+        @Override
+        public int getRotationDegrees() {
+            return rotationDegrees;
+        }
+
+        @Override
+        public long getTimestamp() {
+            return timestamp;
+        }
+
+        @Override
+        @NonNull
+        public ByteBuffer getLuminanceBuffer() {
+            return luminanceBuffer;
+        }
+
+        @Override
+        public int getLuminanceRowStride() {
+            return rowStride;
+        }
+
+        @Override
+        @Nullable
+        public Image getMediaImage() {
+            return null;
+        }
+
+        @Override
+        public void close() {}
+    }
+}
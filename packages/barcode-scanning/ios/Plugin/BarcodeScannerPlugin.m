@@ -6,7 +6,13 @@
 CAP_PLUGIN(BarcodeScannerPlugin, "BarcodeScanner",
            CAP_PLUGIN_METHOD(startScan, CAPPluginReturnPromise);
            CAP_PLUGIN_METHOD(stopScan, CAPPluginReturnPromise);
+           CAP_PLUGIN_METHOD(prepareScan, CAPPluginReturnPromise);
+           CAP_PLUGIN_METHOD(pauseScan, CAPPluginReturnPromise);
+           CAP_PLUGIN_METHOD(resumeScan, CAPPluginReturnPromise);
            CAP_PLUGIN_METHOD(readBarcodesFromImage, CAPPluginReturnPromise);
+           CAP_PLUGIN_METHOD(readBarcodesFromImages, CAPPluginReturnPromise);
+           CAP_PLUGIN_METHOD(readBarcodesFromPdf, CAPPluginReturnPromise);
+           CAP_PLUGIN_METHOD(readBarcodesFromVideo, CAPPluginReturnPromise);
            CAP_PLUGIN_METHOD(scan, CAPPluginReturnPromise);
            CAP_PLUGIN_METHOD(isSupported, CAPPluginReturnPromise);
            CAP_PLUGIN_METHOD(enableTorch, CAPPluginReturnPromise);
@@ -18,6 +24,9 @@ CAP_PLUGIN(BarcodeScannerPlugin, "BarcodeScanner",
            CAP_PLUGIN_METHOD(getZoomRatio, CAPPluginReturnPromise);
            CAP_PLUGIN_METHOD(getMinZoomRatio, CAPPluginReturnPromise);
            CAP_PLUGIN_METHOD(getMaxZoomRatio, CAPPluginReturnPromise);
+           CAP_PLUGIN_METHOD(getScanMetrics, CAPPluginReturnPromise);
+           CAP_PLUGIN_METHOD(acknowledgeScanEvents, CAPPluginReturnPromise);
+           CAP_PLUGIN_METHOD(replayFrames, CAPPluginReturnPromise);
            CAP_PLUGIN_METHOD(openSettings, CAPPluginReturnPromise);
            CAP_PLUGIN_METHOD(isGoogleBarcodeScannerModuleAvailable, CAPPluginReturnPromise);
            CAP_PLUGIN_METHOD(installGoogleBarcodeScannerModule, CAPPluginReturnPromise);
@@ -68,6 +68,18 @@ public class BarcodeScannerPlugin: CAPPlugin {
         call.resolve()
     }
 
+    @objc func prepareScan(_ call: CAPPluginCall) {
+        rejectCallAsUnimplemented(call)
+    }
+
+    @objc func pauseScan(_ call: CAPPluginCall) {
+        rejectCallAsUnimplemented(call)
+    }
+
+    @objc func resumeScan(_ call: CAPPluginCall) {
+        rejectCallAsUnimplemented(call)
+    }
+
     @objc func readBarcodesFromImage(_ call: CAPPluginCall) {
         let formatsOption = call.getArray("formats") as? [String]
         let formats = BarcodeScannerHelper.convertStringsToBarcodeScannerFormats(formatsOption ?? [])
@@ -212,6 +224,18 @@ public class BarcodeScannerPlugin: CAPPlugin {
         }
     }
 
+    @objc func getScanMetrics(_ call: CAPPluginCall) {
+        rejectCallAsUnimplemented(call)
+    }
+
+    @objc func acknowledgeScanEvents(_ call: CAPPluginCall) {
+        rejectCallAsUnimplemented(call)
+    }
+
+    @objc func replayFrames(_ call: CAPPluginCall) {
+        rejectCallAsUnimplemented(call)
+    }
+
     @objc func openSettings(_ call: CAPPluginCall) {
         implementation?.openSettings(completion: { error in
             if let error = error {
@@ -222,6 +246,18 @@ public class BarcodeScannerPlugin: CAPPlugin {
         })
     }
 
+    @objc func readBarcodesFromImages(_ call: CAPPluginCall) {
+        rejectCallAsUnimplemented(call)
+    }
+
+    @objc func readBarcodesFromPdf(_ call: CAPPluginCall) {
+        rejectCallAsUnimplemented(call)
+    }
+
+    @objc func readBarcodesFromVideo(_ call: CAPPluginCall) {
+        rejectCallAsUnimplemented(call)
+    }
+
     @objc func isGoogleBarcodeScannerModuleAvailable(_ call: CAPPluginCall) {
         rejectCallAsUnimplemented(call)
     }
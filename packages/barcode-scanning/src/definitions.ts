@@ -13,6 +13,39 @@ export interface BarcodeScannerPlugin {
    * @since 0.0.1
    */
   stopScan(): Promise<void>;
+  /**
+   * Prepare the barcode scanner so that the next `startScan(...)` call
+   * can start the camera right away.
+   *
+   * This resolves the camera provider, creates the barcode scanner
+   * and loads its model in the background.
+   * Call this method as early as possible, e.g. when the scanning page is opened.
+   *
+   * Only available on Android.
+   *
+   * @since 8.2.0
+   */
+  prepareScan(options?: PrepareScanOptions): Promise<void>;
+  /**
+   * Pause scanning for barcodes.
+   *
+   * The camera and the preview stay active, but no camera frames are analyzed
+   * until `resumeScan()` is called. This is much faster than stopping and
+   * restarting the scan.
+   *
+   * Only available on Android.
+   *
+   * @since 8.2.0
+   */
+  pauseScan(): Promise<void>;
+  /**
+   * Resume scanning for barcodes after `pauseScan()` was called.
+   *
+   * Only available on Android.
+   *
+   * @since 8.2.0
+   */
+  resumeScan(): Promise<void>;
   /**
    * Read barcodes from an image.
    *
@@ -21,6 +54,51 @@ export interface BarcodeScannerPlugin {
   readBarcodesFromImage(
     options: ReadBarcodesFromImageOptions,
   ): Promise<ReadBarcodesFromImageResult>;
+  /**
+   * Read barcodes from multiple images.
+   *
+   * The images are loaded and processed in parallel.
+   * The `imageBarcodesRead` event is emitted as soon as an image has been processed.
+   * The promise resolves with a summary once all images have been processed.
+   * The events and the summary contain the `batchId` of the call, so the events of
+   * overlapping calls can be told apart.
+   *
+   * Only available on Android.
+   *
+   * @since 8.2.0
+   */
+  readBarcodesFromImages(
+    options: ReadBarcodesFromImagesOptions,
+  ): Promise<ReadBarcodesFromImagesResult>;
+  /**
+   * Read barcodes from the pages of a PDF document.
+   *
+   * The pages are rendered natively, so no temporary image files are needed.
+   * The `pdfPageBarcodesRead` event is emitted as soon as a page has been processed.
+   * The promise resolves with a summary once all pages have been processed.
+   *
+   * Only available on Android.
+   *
+   * @since 8.2.0
+   */
+  readBarcodesFromPdf(
+    options: ReadBarcodesFromPdfOptions,
+  ): Promise<ReadBarcodesFromPdfResult>;
+  /**
+   * Read barcodes from the frames of a video file.
+   *
+   * The video is decoded natively and the frames are sampled at a fixed interval.
+   * The sampled frames go through the same vote and tracking logic as the frames of a scan session.
+   * The `videoBarcodesRead` event is emitted for each analyzed frame that contains reported barcodes.
+   * The promise resolves with a summary once the whole video has been processed.
+   *
+   * Only available on Android.
+   *
+   * @since 8.2.0
+   */
+  readBarcodesFromVideo(
+    options: ReadBarcodesFromVideoOptions,
+  ): Promise<ReadBarcodesFromVideoResult>;
   /**
    * Scan a barcode with a ready-to-use interface without WebView customization.
    *
@@ -114,6 +192,41 @@ export interface BarcodeScannerPlugin {
    * @since 5.4.0
    */
   getMaxZoomRatio(): Promise<GetMaxZoomRatioResult>;
+  /**
+   * Get the performance metrics of the current or last scan session.
+   *
+   * Only available on Android.
+   *
+   * @since 8.2.0
+   */
+  getScanMetrics(): Promise<GetScanMetricsResult>;
+  /**
+   * Acknowledge that the listeners have processed the scan events that were delivered by the scan event queue.
+   *
+   * The next batch of queued events is only delivered once the previous batch was acknowledged
+   * or after one second without acknowledgement.
+   * Call this method at the end of your scan event listeners if `eventQueuePolicy` is set.
+   *
+   * Only available on Android.
+   *
+   * @since 8.2.0
+   */
+  acknowledgeScanEvents(): Promise<void>;
+  /**
+   * Run the camera frames that were recorded with `frameRecordingPath` through
+   * the barcode analysis of a scan session without using the camera.
+   *
+   * The frames are analyzed one after another, so the results do not depend on the
+   * speed of the device. The barcodes are reported with the same events as during
+   * a scan session. The promise resolves with the metrics of the replay.
+   * A scan session must not be active at the same time.
+   * `startScan(...)` is rejected while the replay is running.
+   *
+   * Only available on Android.
+   *
+   * @since 8.2.0
+   */
+  replayFrames(options: ReplayFramesOptions): Promise<GetScanMetricsResult>;
   /**
    * Open the settings of the app so that the user can grant the camera permission.
    *
@@ -176,6 +289,91 @@ export interface BarcodeScannerPlugin {
     eventName: 'scanError',
     listenerFunc: (event: ScanErrorEvent) => void,
   ): Promise<PluginListenerHandle>;
+  /**
+   * Called when an image has been processed by `readBarcodesFromImages(...)`.
+   *
+   * Only available on Android.
+   *
+   * @since 8.2.0
+   */
+  addListener(
+    eventName: 'imageBarcodesRead',
+    listenerFunc: (event: ImageBarcodesReadEvent) => void,
+  ): Promise<PluginListenerHandle>;
+  /**
+   * Called when a page has been processed by `readBarcodesFromPdf(...)`.
+   *
+   * Only available on Android.
+   *
+   * @since 8.2.0
+   */
+  addListener(
+    eventName: 'pdfPageBarcodesRead',
+    listenerFunc: (event: PdfPageBarcodesReadEvent) => void,
+  ): Promise<PluginListenerHandle>;
+  /**
+   * Called when a frame with barcodes has been processed by `readBarcodesFromVideo(...)`.
+   *
+   * Only available on Android.
+   *
+   * @since 8.2.0
+   */
+  addListener(
+    eventName: 'videoBarcodesRead',
+    listenerFunc: (event: VideoBarcodesReadEvent) => void,
+  ): Promise<PluginListenerHandle>;
+  /**
+   * Called when a barcode enters the camera view.
+   *
+   * Only emitted if `barcodeTracking` is enabled.
+   *
+   * Only available on Android.
+   *
+   * @since 8.2.0
+   */
+  addListener(
+    eventName: 'barcodeEntered',
+    listenerFunc: (event: BarcodeEnteredEvent) => void,
+  ): Promise<PluginListenerHandle>;
+  /**
+   * Called when a tracked barcode moves within the camera view.
+   *
+   * Only emitted if `barcodeTracking` is enabled.
+   *
+   * Only available on Android.
+   *
+   * @since 8.2.0
+   */
+  addListener(
+    eventName: 'barcodeMoved',
+    listenerFunc: (event: BarcodeMovedEvent) => void,
+  ): Promise<PluginListenerHandle>;
+  /**
+   * Called when a tracked barcode leaves the camera view.
+   *
+   * Only emitted if `barcodeTracking` is enabled.
+   *
+   * Only available on Android.
+   *
+   * @since 8.2.0
+   */
+  addListener(
+    eventName: 'barcodeLeft',
+    listenerFunc: (event: BarcodeLeftEvent) => void,
+  ): Promise<PluginListenerHandle>;
+  /**
+   * Called periodically with the performance metrics of the scan session.
+   *
+   * Only emitted if `scanMetricsInterval` is set.
+   *
+   * Only available on Android.
+   *
+   * @since 8.2.0
+   */
+  addListener(
+    eventName: 'scanMetrics',
+    listenerFunc: (event: ScanMetricsEvent) => void,
+  ): Promise<PluginListenerHandle>;
   /**
    * Called when the Google Barcode Scanner module is installed.
    *
@@ -205,86 +403,648 @@ export interface StartScanOptions {
    * Improve the speed of the barcode scanner by configuring
    * the barcode formats to scan for.
    *
-   * Only available on Android and iOS.
-   *
-   * @since 0.0.1
+   * Only available on Android and iOS.
+   *
+   * @since 0.0.1
+   */
+  formats?: BarcodeFormat[];
+  /**
+   * Configure the camera (front or back) to use.
+   *
+   * @since 0.0.1
+   */
+  lensFacing?: LensFacing;
+  /**
+   * Configure the resolution of the captured image that is used for barcode scanning.
+   *
+   * If the resolution is not supported by the device, the closest supported resolution will be used.
+   *
+   * Only available on Android and iOS.
+   *
+   * @since 7.0.0
+   * @default Resolution['1280x720']
+   */
+  resolution?: Resolution;
+  /**
+   * Configure the resolution of the camera preview.
+   *
+   * The preview resolution is independent of the `resolution` that is used for
+   * barcode scanning, so a sharp preview can be combined with small camera frames
+   * that are decoded faster.
+   * If the resolution is not supported by the device, the closest supported resolution will be used.
+   * By default, the resolution is chosen by the camera library based on the screen size.
+   *
+   * Only available on Android.
+   *
+   * @since 8.2.0
+   */
+  previewResolution?: Resolution;
+  /**
+   * The frame rate range (in frames per second) that the auto exposure of the camera should target.
+   *
+   * A higher minimum frame rate delivers more camera frames for barcode scanning
+   * at the cost of shorter exposure times in low light.
+   * The range must be supported by the camera.
+   *
+   * Only available on Android.
+   *
+   * @since 8.2.0
+   */
+  targetFrameRateRange?: FrameRateRange;
+  /**
+   * The number of threads used to analyze the camera frames.
+   *
+   * The camera frames are always analyzed off the main thread so that
+   * the WebView rendering is not blocked during a scan.
+   * Only one frame is analyzed at a time, but with more than one thread
+   * the next frame is already prepared and passed to the barcode scanner
+   * while the barcodes of the previous frame are still serialized.
+   * The `barcodesScanned` events of consecutive frames may then arrive out of order.
+   *
+   * Must be between `1` and `4`.
+   *
+   * Only available on Android.
+   *
+   * @since 8.2.0
+   * @default 1
+   */
+  analysisThreadCount?: number;
+  /**
+   * The number of frames in which a barcode must be detected before it is reported.
+   *
+   * Set this to `1` to report every barcode as soon as it is detected.
+   * A higher value reduces false positives but increases the time until a barcode is reported.
+   *
+   * Only available on Android.
+   *
+   * @since 8.2.0
+   * @default 10
+   */
+  voteThreshold?: number;
+  /**
+   * The time in milliseconds after which the collected votes of a barcode are discarded
+   * if the barcode was not detected again.
+   *
+   * Set this to `0` to never discard the votes during a scan session.
+   *
+   * Only available on Android.
+   *
+   * @since 8.2.0
+   * @default 1000
+   */
+  voteTimeout?: number;
+  /**
+   * Only scan for barcodes in this region of the screen.
+   *
+   * The camera frames are cropped to this region before the barcode detection,
+   * which reduces the processing time per frame and prevents barcodes outside
+   * of the region from being detected.
+   *
+   * The region uses the same coordinate system as the `cornerPoints` of a barcode.
+   *
+   * Only available on Android.
+   *
+   * @since 8.2.0
+   */
+  regionOfInterest?: RegionOfInterest;
+  /**
+   * The maximum number of camera frames per second that are analyzed.
+   *
+   * Frames are skipped to stay below this limit, which reduces the CPU and battery usage.
+   * Set this to `0` to analyze as many frames as possible.
+   *
+   * Only available on Android.
+   *
+   * @since 8.2.0
+   * @default 0
+   */
+  maxAnalysisFrameRate?: number;
+  /**
+   * Whether or not the number of analyzed camera frames per second should adapt
+   * to the device performance.
+   *
+   * If enabled, the analysis rate is lowered when the barcode detection takes longer
+   * or the device is thermally throttled, and raised again when the device is idle.
+   *
+   * Only available on Android.
+   *
+   * @since 8.2.0
+   * @default false
+   */
+  adaptiveAnalysisFrameRate?: boolean;
+  /**
+   * The barcode properties to include in the `barcodeScanned` and `barcodesScanned` events.
+   *
+   * Omitting unneeded properties reduces the size of the event payloads.
+   * If not set, all properties except `bytesBase64` are included.
+   *
+   * Only available on Android.
+   *
+   * @since 8.2.0
+   * @example ['rawValue', 'format', 'cornerPoints']
+   */
+  fields?: (keyof Barcode)[];
+  /**
+   * Whether or not the barcodes should be tracked across camera frames.
+   *
+   * If enabled, each barcode gets a stable track ID and the `barcodeEntered`,
+   * `barcodeMoved` and `barcodeLeft` events are emitted.
+   *
+   * Only available on Android.
+   *
+   * @since 8.2.0
+   * @default false
+   */
+  barcodeTracking?: boolean;
+  /**
+   * The minimum time in milliseconds between two `barcodeMoved` events of the same barcode.
+   *
+   * Only available on Android.
+   *
+   * @since 8.2.0
+   * @default 200
+   */
+  barcodeMovedInterval?: number;
+  /**
+   * The time in milliseconds after which a barcode that has not been detected again
+   * is considered to have left the camera view.
+   *
+   * Only available on Android.
+   *
+   * @since 8.2.0
+   * @default 500
+   */
+  barcodeLeftTimeout?: number;
+  /**
+   * The interval in milliseconds in which the `scanMetrics` event is emitted.
+   *
+   * A value of `0` disables the event.
+   *
+   * Only available on Android.
+   *
+   * @since 8.2.0
+   * @default 0
+   */
+  scanMetricsInterval?: number;
+  /**
+   * The minimum sharpness of a camera frame to be passed to the barcode scanner.
+   *
+   * The sharpness is the average luminance difference between neighboring pixels
+   * (between `0` and `510`). Blurred frames, e.g. during hand movement, are skipped
+   * which frees CPU time for the frames that can actually be decoded.
+   * A value between `4` and `8` is a good starting point.
+   * A value of `0` disables the check.
+   *
+   * Only available on Android.
+   *
+   * @since 8.2.0
+   * @default 0
+   */
+  minFrameSharpness?: number;
+  /**
+   * Whether or not only the luminance of the camera frames should be passed
+   * to the barcode scanner.
+   *
+   * The luminance is copied into recycled buffers so that no memory is allocated
+   * per camera frame. This reduces garbage collection pauses on older devices.
+   * Barcodes are detected in the same way since the color is not used for detection.
+   *
+   * Only available on Android.
+   *
+   * @since 8.2.0
+   * @default false
+   */
+  grayscaleInput?: boolean;
+  /**
+   * Whether or not the barcode formats should be narrowed to the formats
+   * that were already detected in the scan session.
+   *
+   * Scanning for fewer formats is faster. After three consecutive reads
+   * without a new format, only the detected formats are scanned for.
+   * After 30 consecutive frames without a barcode, the configured `formats` are
+   * scanned for again.
+   *
+   * Only available on Android.
+   *
+   * @since 8.2.0
+   * @default false
+   */
+  adaptiveFormats?: boolean;
+  /**
+   * Whether or not the `cornerPoints` of the scanned barcodes and the `regionOfInterest`
+   * should be in CSS pixels of the WebView instead of physical pixels.
+   *
+   * CSS pixels can be used for overlays in the WebView without dividing by `window.devicePixelRatio`.
+   *
+   * Only available on Android.
+   *
+   * @since 8.2.0
+   * @default false
+   */
+  cornerPointsInCssPixels?: boolean;
+  /**
+   * The policy of the native queue for the scan events.
+   *
+   * The scan events are queued natively and delivered in batches.
+   * The next batch is only delivered once the listeners have called `acknowledgeScanEvents()`,
+   * or after one second without acknowledgement.
+   * In the meantime, the scan events are dropped or coalesced according to this policy
+   * instead of piling up in the WebView while it is busy, e.g. during page transitions.
+   * The `barcodeEntered` and `barcodeLeft` events are never dropped,
+   * unless a barcode leaves before its `barcodeEntered` event was delivered.
+   * In that case, all events of the barcode are dropped.
+   * The number of dropped events is available as `eventsDropped` in the scan metrics.
+   *
+   * By default, the listeners are notified directly without a queue.
+   *
+   * Only available on Android.
+   *
+   * @since 8.2.0
+   */
+  eventQueuePolicy?: EventQueuePolicy;
+  /**
+   * The maximum number of droppable scan events in the native queue.
+   *
+   * Only available on Android.
+   *
+   * @since 8.2.0
+   * @default 10
+   */
+  eventQueueCapacity?: number;
+  /**
+   * The local path of a file to which the camera frames of the scan session are recorded.
+   *
+   * Only the luminance of the frames is recorded. The recording can be
+   * replayed with `replayFrames(...)` to reproduce scanning issues.
+   * The file is overwritten if it already exists.
+   * Like the `path` of `replayFrames(...)`, both `file://` and `content://` URIs are supported.
+   *
+   * Only available on Android.
+   *
+   * @since 8.2.0
+   */
+  frameRecordingPath?: string;
+  /**
+   * The maximum number of camera frames to record.
+   *
+   * Only available on Android.
+   *
+   * @since 8.2.0
+   * @default 100
+   */
+  frameRecordingMaxCount?: number;
+  /**
+   * Whether or not the torch should be enabled automatically when the camera frames are too dark
+   * and disabled again when the scene is bright enough.
+   *
+   * Calling `enableTorch()`, `disableTorch()` or `toggleTorch()` disables the automatic torch
+   * for the rest of the scan session.
+   *
+   * Only available on Android.
+   *
+   * @since 8.2.0
+   * @default false
+   */
+  autoTorch?: boolean;
+  /**
+   * Whether or not the exposure compensation should be raised automatically when the camera frames are too dark
+   * and lowered again when the scene is bright enough.
+   *
+   * If `autoTorch` is enabled as well, the torch is only enabled once the maximum exposure compensation is reached.
+   *
+   * Only available on Android.
+   *
+   * @since 8.2.0
+   * @default false
+   */
+  autoExposureCompensation?: boolean;
+  /**
+   * Allow camera usage on iPad while in multitasking mode.
+   *
+   * Only available on iOS (16.0+).
+   *
+   * @since 7.5.0
+   * @default false
+   */
+  enableMultitaskingCameraAccess?: boolean;
+  /**
+   * The HTML video element to use for the camera preview.
+   *
+   * Only available on web.
+   *
+   * @since 7.1.0
+   */
+  videoElement?: HTMLVideoElement;
+}
+
+/**
+ * @since 8.2.0
+ */
+export interface RegionOfInterest {
+  /**
+   * The x-coordinate of the top-left corner of the region.
+   *
+   * @since 8.2.0
+   */
+  left: number;
+  /**
+   * The y-coordinate of the top-left corner of the region.
+   *
+   * @since 8.2.0
+   */
+  top: number;
+  /**
+   * The width of the region.
+   *
+   * @since 8.2.0
+   */
+  width: number;
+  /**
+   * The height of the region.
+   *
+   * @since 8.2.0
+   */
+  height: number;
+}
+
+/**
+ * @since 8.2.0
+ */
+export interface FrameRateRange {
+  /**
+   * The minimum number of frames per second.
+   *
+   * @since 8.2.0
+   */
+  min: number;
+  /**
+   * The maximum number of frames per second.
+   *
+   * @since 8.2.0
+   */
+  max: number;
+}
+
+/**
+ * @since 0.0.1
+ */
+export interface ReadBarcodesFromImageOptions {
+  /**
+   * The blob instance of the image file.
+   *
+   * Only available on Web.
+   *
+   * @since 7.4.0
+   */
+  blob?: Blob;
+  /**
+   * Improve the speed of the barcode scanner by configuring
+   * the barcode formats to scan for.
+   *
+   * @since 0.0.1
+   */
+  formats?: BarcodeFormat[];
+  /**
+   * The local path to the image file.
+   *
+   * Only available on Android and iOS.
+   *
+   * @since 0.0.1
+   */
+  path?: string;
+  /**
+   * Whether or not the image should be split into overlapping tiles
+   * that are processed separately.
+   *
+   * This finds small barcodes in large images, e.g. on document scans
+   * or photos of pallets, which would be missed if the whole image
+   * was processed at once. Barcodes with the same raw value are only
+   * returned once.
+   *
+   * Only available on Android.
+   *
+   * @since 8.2.0
+   * @default false
+   */
+  tiling?: boolean;
+  /**
+   * The edge length of a tile in pixels if `tiling` is enabled.
+   *
+   * Must be at least `256`.
+   *
+   * Only available on Android.
+   *
+   * @since 8.2.0
+   * @default 1024
+   */
+  tileSize?: number;
+}
+
+/**
+ * @since 0.0.1
+ */
+export interface ReadBarcodesFromImageResult {
+  /**
+   * The detected barcodes.
+   *
+   * @since 0.0.1
+   */
+  barcodes: Barcode[];
+}
+
+/**
+ * @since 8.2.0
+ */
+export interface PrepareScanOptions {
+  /**
+   * The barcode formats that will be passed to `startScan(...)`.
+   *
+   * @since 8.2.0
+   */
+  formats?: BarcodeFormat[];
+}
+
+/**
+ * @since 8.2.0
+ */
+export interface ReadBarcodesFromImagesOptions {
+  /**
+   * The identifier of this call that is passed to every `imageBarcodesRead` event
+   * and to the result.
+   *
+   * If not set, a random identifier is generated.
+   *
+   * @since 8.2.0
+   */
+  batchId?: string;
+  /**
+   * Improve the speed of the barcode scanner by configuring
+   * the barcode formats to scan for.
+   *
+   * @since 8.2.0
+   */
+  formats?: BarcodeFormat[];
+  /**
+   * The local paths to the image files.
+   *
+   * @since 8.2.0
+   */
+  paths: string[];
+}
+
+/**
+ * @since 8.2.0
+ */
+export interface ReadBarcodesFromImagesResult {
+  /**
+   * The total number of detected barcodes.
+   *
+   * @since 8.2.0
+   */
+  barcodeCount: number;
+  /**
+   * The identifier of the call.
+   *
+   * @since 8.2.0
+   */
+  batchId: string;
+  /**
+   * The number of images that could not be processed.
+   *
+   * @since 8.2.0
+   */
+  failedImageCount: number;
+  /**
+   * The number of processed images.
+   *
+   * @since 8.2.0
+   */
+  imageCount: number;
+}
+
+/**
+ * @since 8.2.0
+ */
+export interface ReadBarcodesFromPdfOptions {
+  /**
+   * The resolution in dots per inch at which the pages are rendered.
+   *
+   * Higher values find smaller barcodes but take longer and need more memory.
+   * Large pages are rendered with at most 4096 pixels per side.
+   *
+   * @since 8.2.0
+   * @default 200
+   */
+  dpi?: number;
+  /**
+   * Improve the speed of the barcode scanner by configuring
+   * the barcode formats to scan for.
+   *
+   * @since 8.2.0
    */
   formats?: BarcodeFormat[];
   /**
-   * Configure the camera (front or back) to use.
+   * The local path to the PDF document.
    *
-   * @since 0.0.1
+   * @since 8.2.0
    */
-  lensFacing?: LensFacing;
+  path: string;
+}
+
+/**
+ * @since 8.2.0
+ */
+export interface ReadBarcodesFromPdfResult {
   /**
-   * Configure the resolution of the captured image that is used for barcode scanning.
-   *
-   * If the resolution is not supported by the device, the closest supported resolution will be used.
-   *
-   * Only available on Android and iOS.
+   * The total number of detected barcodes.
    *
-   * @since 7.0.0
-   * @default Resolution['1280x720']
+   * @since 8.2.0
    */
-  resolution?: Resolution;
+  barcodeCount: number;
   /**
-   * Allow camera usage on iPad while in multitasking mode.
+   * The number of pages that could not be processed.
    *
-   * Only available on iOS (16.0+).
-   *
-   * @since 7.5.0
-   * @default false
+   * @since 8.2.0
    */
-  enableMultitaskingCameraAccess?: boolean;
+  failedPageCount: number;
   /**
-   * The HTML video element to use for the camera preview.
-   *
-   * Only available on web.
+   * The number of pages of the PDF document.
    *
-   * @since 7.1.0
+   * @since 8.2.0
    */
-  videoElement?: HTMLVideoElement;
+  pageCount: number;
 }
 
 /**
- * @since 0.0.1
+ * @since 8.2.0
  */
-export interface ReadBarcodesFromImageOptions {
+export interface ReadBarcodesFromVideoOptions {
   /**
-   * The blob instance of the image file.
+   * Improve the speed of the barcode scanner by configuring
+   * the barcode formats to scan for.
    *
-   * Only available on Web.
+   * @since 8.2.0
+   */
+  formats?: BarcodeFormat[];
+  /**
+   * The minimum time in milliseconds between two analyzed frames of the video.
    *
-   * @since 7.4.0
+   * The frames are sampled by their presentation time instead of a fixed frame stride,
+   * so the sampling does not depend on the frame rate of the video, which may also vary
+   * within a video. For example, `100` analyzes every third frame of a 30 fps video.
+   * A value of `0` analyzes every frame.
+   *
+   * @since 8.2.0
+   * @default 100
    */
-  blob?: Blob;
+  frameInterval?: number;
   /**
-   * Improve the speed of the barcode scanner by configuring
-   * the barcode formats to scan for.
+   * The local path to the video file.
    *
-   * @since 0.0.1
+   * @since 8.2.0
    */
-  formats?: BarcodeFormat[];
+  path: string;
   /**
-   * The local path to the image file.
+   * The number of analyzed frames in which a barcode must be detected before it is reported.
    *
-   * Only available on Android and iOS.
+   * @since 8.2.0
+   * @default 2
+   */
+  voteThreshold?: number;
+  /**
+   * The time in milliseconds of video after which the votes of a barcode
+   * that has not been detected again are discarded.
    *
-   * @since 0.0.1
+   * @since 8.2.0
+   * @default 1000
    */
-  path?: string;
+  voteTimeout?: number;
 }
 
 /**
- * @since 0.0.1
+ * @since 8.2.0
  */
-export interface ReadBarcodesFromImageResult {
+export interface ReadBarcodesFromVideoResult {
   /**
-   * The detected barcodes.
+   * The number of distinct barcodes that were reported.
    *
-   * @since 0.0.1
+   * A barcode that leaves the video and appears again is counted twice.
+   *
+   * @since 8.2.0
    */
-  barcodes: Barcode[];
+  barcodeCount: number;
+  /**
+   * The timestamp of the last frame in milliseconds.
+   *
+   * @since 8.2.0
+   */
+  duration: number;
+  /**
+   * The number of analyzed frames.
+   *
+   * @since 8.2.0
+   */
+  frameCount: number;
 }
 
 /**
@@ -405,6 +1165,175 @@ export interface GetMaxZoomRatioResult {
   zoomRatio: number;
 }
 
+/**
+ * @since 8.2.0
+ */
+export interface ReplayFramesOptions {
+  /**
+   * Improve the speed of the barcode scanner by configuring
+   * the barcode formats to scan for.
+   *
+   * @since 8.2.0
+   */
+  formats?: BarcodeFormat[];
+  /**
+   * The maximum number of frames per second that are analyzed.
+   *
+   * The frame rate is based on the timestamps of the recorded frames.
+   *
+   * @since 8.2.0
+   * @default 0
+   */
+  maxAnalysisFrameRate?: number;
+  /**
+   * The minimum sharpness of a frame to be passed to the barcode scanner.
+   *
+   * @since 8.2.0
+   * @default 0
+   */
+  minFrameSharpness?: number;
+  /**
+   * The local path to the frame recording.
+   *
+   * @since 8.2.0
+   */
+  path: string;
+  /**
+   * The number of frames in which a barcode must be detected before it is reported.
+   *
+   * @since 8.2.0
+   * @default 10
+   */
+  voteThreshold?: number;
+  /**
+   * The time in milliseconds after which the collected votes of a barcode are discarded
+   * if the barcode was not detected again.
+   *
+   * @since 8.2.0
+   * @default 1000
+   */
+  voteTimeout?: number;
+}
+
+/**
+ * @since 8.2.0
+ */
+export interface GetScanMetricsResult {
+  /**
+   * The number of detected barcodes that did not have enough votes to be reported yet.
+   *
+   * @since 8.2.0
+   */
+  barcodesRejected: number;
+  /**
+   * The number of barcodes that were reported to the listeners.
+   *
+   * @since 8.2.0
+   */
+  barcodesReported: number;
+  /**
+   * The duration of the scan session in milliseconds.
+   *
+   * @since 8.2.0
+   */
+  duration: number;
+  /**
+   * The number of scan events that were dropped or coalesced by the event queue.
+   *
+   * @since 8.2.0
+   */
+  eventsDropped: number;
+  /**
+   * The number of camera frames that were processed by the barcode scanner.
+   *
+   * @since 8.2.0
+   */
+  framesAnalyzed: number;
+  /**
+   * The number of camera frames that were skipped because they were too blurred.
+   *
+   * @since 8.2.0
+   */
+  framesBlurred: number;
+  /**
+   * The number of camera frames that could not be processed by the barcode scanner.
+   *
+   * @since 8.2.0
+   */
+  framesFailed: number;
+  /**
+   * The number of camera frames that were delivered to the analyzer.
+   *
+   * @since 8.2.0
+   */
+  framesReceived: number;
+  /**
+   * The number of camera frames that were skipped, e.g. because of the analysis frame rate.
+   *
+   * @since 8.2.0
+   */
+  framesSkipped: number;
+  /**
+   * The time from receiving a camera frame until the listeners were notified
+   * about its barcodes.
+   *
+   * @since 8.2.0
+   */
+  notifyLatency: LatencyHistogram;
+  /**
+   * The time the barcode scanner took to process a camera frame.
+   *
+   * @since 8.2.0
+   */
+  processLatency: LatencyHistogram;
+  /**
+   * The time in milliseconds from the start of the scan session until the first barcode was reported.
+   *
+   * Not set if no barcode has been reported yet.
+   *
+   * @since 8.2.0
+   */
+  timeToFirstRead?: number;
+}
+
+/**
+ * @since 8.2.0
+ */
+export interface LatencyHistogram {
+  /**
+   * The average latency in milliseconds.
+   *
+   * @since 8.2.0
+   */
+  average: number;
+  /**
+   * The number of values per bucket.
+   *
+   * The last bucket contains all values greater than the last upper bound.
+   *
+   * @since 8.2.0
+   */
+  bucketCounts: number[];
+  /**
+   * The inclusive upper bounds of the buckets in milliseconds.
+   *
+   * @since 8.2.0
+   */
+  bucketUpperBounds: number[];
+  /**
+   * The number of recorded values.
+   *
+   * @since 8.2.0
+   */
+  count: number;
+  /**
+   * The maximum latency in milliseconds.
+   *
+   * @since 8.2.0
+   */
+  max: number;
+}
+
 /**
  * @since 5.1.0
  */
@@ -422,6 +1351,11 @@ export interface IsGoogleBarcodeScannerModuleAvailableResult {
  */
 export type CameraPermissionState = PermissionState | 'limited';
 
+/**
+ * @since 8.2.0
+ */
+export type ScanMetricsEvent = GetScanMetricsResult;
+
 /**
  * @since 0.0.1
  */
@@ -468,6 +1402,145 @@ export interface ScanErrorEvent {
   message: string;
 }
 
+/**
+ * @since 8.2.0
+ */
+export interface ImageBarcodesReadEvent {
+  /**
+   * The detected barcodes.
+   *
+   * @since 8.2.0
+   */
+  barcodes: Barcode[];
+  /**
+   * The identifier of the `readBarcodesFromImages(...)` call this image belongs to.
+   *
+   * @since 8.2.0
+   */
+  batchId: string;
+  /**
+   * The error message if the image could not be processed.
+   *
+   * @since 8.2.0
+   */
+  errorMessage?: string;
+  /**
+   * The index of the image in the `paths` array.
+   *
+   * @since 8.2.0
+   */
+  index: number;
+  /**
+   * The local path to the image file.
+   *
+   * @since 8.2.0
+   */
+  path: string;
+}
+
+/**
+ * @since 8.2.0
+ */
+export interface PdfPageBarcodesReadEvent {
+  /**
+   * The detected barcodes.
+   *
+   * The corner points are in the pixel coordinates of the rendered page.
+   *
+   * @since 8.2.0
+   */
+  barcodes: Barcode[];
+  /**
+   * The error message if the page could not be processed.
+   *
+   * @since 8.2.0
+   */
+  errorMessage?: string;
+  /**
+   * The zero-based index of the page.
+   *
+   * @since 8.2.0
+   */
+  pageIndex: number;
+}
+
+/**
+ * @since 8.2.0
+ */
+export interface VideoBarcodesReadEvent {
+  /**
+   * The reported barcodes of the frame.
+   *
+   * Barcodes without a raw value are not reported.
+   * The corner points are in the pixel coordinates of the video frame.
+   *
+   * @since 8.2.0
+   */
+  barcodes: Barcode[];
+  /**
+   * The presentation time of the frame in milliseconds.
+   *
+   * @since 8.2.0
+   */
+  timestamp: number;
+  /**
+   * The track ID of each barcode in the same order as `barcodes`.
+   *
+   * The track ID stays the same while the barcode is visible in the video.
+   *
+   * @since 8.2.0
+   */
+  trackIds: number[];
+}
+
+/**
+ * @since 8.2.0
+ */
+export interface BarcodeEnteredEvent {
+  /**
+   * The detected barcode.
+   *
+   * @since 8.2.0
+   */
+  barcode: Barcode;
+  /**
+   * The ID of the track which stays the same while the barcode is in the camera view.
+   *
+   * @since 8.2.0
+   */
+  trackId: number;
+}
+
+/**
+ * @since 8.2.0
+ */
+export interface BarcodeMovedEvent {
+  /**
+   * The detected barcode with its current position.
+   *
+   * @since 8.2.0
+   */
+  barcode: Barcode;
+  /**
+   * The ID of the track which stays the same while the barcode is in the camera view.
+   *
+   * @since 8.2.0
+   */
+  trackId: number;
+}
+
+/**
+ * @since 8.2.0
+ */
+export interface BarcodeLeftEvent {
+  /**
+   * The ID of the track which stays the same while the barcode is in the camera view.
+   *
+   * @since 8.2.0
+   */
+  trackId: number;
+}
+
 /**
  * @since 5.1.0
  */
@@ -497,6 +1570,17 @@ export interface Barcode {
    * @example [67, 97, 112, 97, 99, 105, 116, 111, 114, 74, 83]
    */
   bytes?: number[];
+  /**
+   * Raw bytes as it was encoded in the barcode as a Base64 string.
+   *
+   * Only included if selected via the `fields` option.
+   *
+   * Only available on Android.
+   *
+   * @since 8.2.0
+   * @example 'Q2FwYWNpdG9ySlM='
+   */
+  bytesBase64?: string;
   /**
    * Calendar event info.
    *
@@ -1146,6 +2230,30 @@ export enum Resolution {
   '3840x2160' = 3,
 }
 
+/**
+ * @since 8.2.0
+ */
+export enum EventQueuePolicy {
+  /**
+   * Drop the oldest event if the queue is full.
+   *
+   * @since 8.2.0
+   */
+  DropOldest = 'DROP_OLDEST',
+  /**
+   * Replace a queued event of the same type with the same barcodes.
+   *
+   * @since 8.2.0
+   */
+  Coalesce = 'COALESCE',
+  /**
+   * Only keep the latest event of each type.
+   *
+   * @since 8.2.0
+   */
+  LatestOnly = 'LATEST_ONLY',
+}
+
 /**
  * @since 0.0.1
  */
@@ -10,6 +10,7 @@ import type {
   BarcodeScannerPlugin,
   BarcodesScannedEvent,
   GetMaxZoomRatioResult,
+  GetScanMetricsResult,
   GetMinZoomRatioResult,
   GetZoomRatioResult,
   IsGoogleBarcodeScannerModuleAvailableResult,
@@ -17,8 +18,16 @@ import type {
   IsTorchAvailableResult,
   IsTorchEnabledResult,
   PermissionStatus,
+  PrepareScanOptions,
   ReadBarcodesFromImageOptions,
   ReadBarcodesFromImageResult,
+  ReadBarcodesFromImagesOptions,
+  ReadBarcodesFromImagesResult,
+  ReadBarcodesFromPdfOptions,
+  ReadBarcodesFromPdfResult,
+  ReadBarcodesFromVideoOptions,
+  ReadBarcodesFromVideoResult,
+  ReplayFramesOptions,
   ScanResult,
   SetZoomRatioOptions,
   StartScanOptions,
@@ -94,6 +103,18 @@ export class BarcodeScannerWeb
     }
   }
 
+  async prepareScan(_options?: PrepareScanOptions): Promise<void> {
+    throw this.createUnimplementedException();
+  }
+
+  async pauseScan(): Promise<void> {
+    throw this.createUnimplementedException();
+  }
+
+  async resumeScan(): Promise<void> {
+    throw this.createUnimplementedException();
+  }
+
   async readBarcodesFromImage(
     options: ReadBarcodesFromImageOptions,
   ): Promise<ReadBarcodesFromImageResult> {
@@ -116,6 +137,24 @@ export class BarcodeScannerWeb
     };
   }
 
+  async readBarcodesFromImages(
+    _options: ReadBarcodesFromImagesOptions,
+  ): Promise<ReadBarcodesFromImagesResult> {
+    throw this.createUnimplementedException();
+  }
+
+  async readBarcodesFromPdf(
+    _options: ReadBarcodesFromPdfOptions,
+  ): Promise<ReadBarcodesFromPdfResult> {
+    throw this.createUnimplementedException();
+  }
+
+  async readBarcodesFromVideo(
+    _options: ReadBarcodesFromVideoOptions,
+  ): Promise<ReadBarcodesFromVideoResult> {
+    throw this.createUnimplementedException();
+  }
+
   async scan(): Promise<ScanResult> {
     throw this.createUnimplementedException();
   }
@@ -160,6 +199,20 @@ export class BarcodeScannerWeb
     throw this.createUnimplementedException();
   }
 
+  async getScanMetrics(): Promise<GetScanMetricsResult> {
+    throw this.createUnimplementedException();
+  }
+
+  async acknowledgeScanEvents(): Promise<void> {
+    throw this.createUnimplementedException();
+  }
+
+  async replayFrames(
+    _options: ReplayFramesOptions,
+  ): Promise<GetScanMetricsResult> {
+    throw this.createUnimplementedException();
+  }
+
   async openSettings(): Promise<void> {
     throw this.createUnimplementedException();
   }